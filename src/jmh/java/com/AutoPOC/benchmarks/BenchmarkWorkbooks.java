@@ -0,0 +1,123 @@
+package com.AutoPOC.benchmarks;
+
+import com.AutoPOC.utils.TestDataKeys;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Generates test-data workbooks with the same layout as POC_data_sheet_v1.1.xlsx and a given row count.
+ * Files are written once per row count under target/jmh-data and reused by later runs.
+ */
+public final class BenchmarkWorkbooks {
+
+    static final String COMMON_SHEET = "Common_TestData";
+    static final String SYNTHETIC_SHEET = "Synthetic_Data";
+    static final String TRANSACTIONAL_SHEET = "Transactional_Data";
+
+    private static final Path DATA_DIR = Paths.get("target", "jmh-data");
+    // Part of the file name; bump when the layout changes so workbooks generated by earlier runs are not reused
+    private static final int LAYOUT_VERSION = 2;
+
+    // Headers the framework looks up by name come from TestDataKeys, so the layout cannot drift from the readers/writers
+    private static final String[] COMMON_HEADERS = {TestDataKeys.TEST_ID, TestDataKeys.APPLICATION, TestDataKeys.BROWSER,
+            TestDataKeys.URL, TestDataKeys.USERNAME, TestDataKeys.PASSWORD};
+    private static final String[] SYNTHETIC_HEADERS = {TestDataKeys.APPLICATION, "Test Type", "Functionality", "Scenario",
+            "Test Case", TestDataKeys.INPUT_ID, "Category", "Sub-Category", "Product title", "Country", "State", "Zip",
+            "Billing FirstName", "Billing LastName", "Email", "City", "Address 1", "Phone"};
+    private static final String[] TRANSACTIONAL_HEADERS = {TestDataKeys.APPLICATION, "Test Type", "Functionality", "Scenario",
+            "Test Case", TestDataKeys.RUN_ID, TestDataKeys.EXECUTION_DATE, TestDataKeys.EXECUTION_TIME,
+            TestDataKeys.EXECUTION_STATUS, TestDataKeys.ORDER_ID, TestDataKeys.ORDER_DATE};
+
+    private BenchmarkWorkbooks() {
+    }
+
+    /**
+     * Returns a workbook with {@code rows} data rows per sheet, generating it if missing.
+     * Every Transactional_Data row except the last has a Run ID, so a free-row scan walks the whole sheet.
+     *
+     * @param rows Data rows per sheet
+     * @return Path of the generated workbook
+     */
+    public static synchronized Path workbook(int rows) throws IOException {
+        Path file = DATA_DIR.resolve("bench_v" + LAYOUT_VERSION + "_" + rows + ".xlsx");
+        if (Files.exists(file)) return file;
+
+        Files.createDirectories(DATA_DIR);
+        Path tmp = Files.createTempFile(DATA_DIR, "bench_" + rows, ".tmp");
+        try (SXSSFWorkbook wb = new SXSSFWorkbook(1000)) {
+            Sheet common = wb.createSheet(COMMON_SHEET);
+            header(common, 0, COMMON_HEADERS);
+            for (int i = 1; i <= rows; i++) {
+                fill(common.createRow(i), String.valueOf(i), "DemoWebShop", "chrome",
+                        "https://demowebshop.tricentis.com/", "user" + i + "@example.com", "secret" + i);
+            }
+
+            Sheet synthetic = wb.createSheet(SYNTHETIC_SHEET);
+            synthetic.createRow(0).createCell(0).setCellValue("Synthetic test data");
+            header(synthetic, 1, SYNTHETIC_HEADERS);
+            for (int i = 1; i <= rows; i++) {
+                fill(synthetic.createRow(i + 1), "DemoWebShop", "Functional", "Checkout", "Place order", "TC" + i,
+                        inputId(i), "Computers", "Desktops", "Build your own expensive computer", "United States",
+                        "California", String.valueOf(90000 + i % 1000), "First" + i, "Last" + i,
+                        "buyer" + i + "@example.com", "Los Angeles", i + " Main Street", "555" + (1000000 + i));
+            }
+
+            Sheet transactional = wb.createSheet(TRANSACTIONAL_SHEET);
+            transactional.createRow(0).createCell(0).setCellValue("Execution results");
+            header(transactional, 1, TRANSACTIONAL_HEADERS);
+            for (int i = 1; i <= rows; i++) {
+                Row row = transactional.createRow(i + 1);
+                fill(row, "DemoWebShop", "Functional", "Checkout", "Place order", "TC" + i);
+                if (i < rows) {
+                    row.createCell(5).setCellValue("R" + i);
+                    row.createCell(6).setCellValue("01/01/2025");
+                    row.createCell(7).setCellValue("10:00:00");
+                    row.createCell(8).setCellValue("Pass");
+                }
+            }
+
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                wb.write(out);
+            }
+            wb.dispose();
+            Files.move(tmp, file);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return file;
+    }
+
+    /**
+     * @return Input ID of the n-th synthetic row, e.g. "Ip42"
+     */
+    public static String inputId(int n) {
+        return "Ip" + n;
+    }
+
+    /**
+     * Copies the generated workbook so write benchmarks never modify the shared file.
+     */
+    public static Path copyOf(int rows) throws IOException {
+        Path copy = DATA_DIR.resolve("bench_" + rows + "_" + ProcessHandle.current().pid() + ".xlsx");
+        Files.copy(workbook(rows), copy, StandardCopyOption.REPLACE_EXISTING);
+        return copy;
+    }
+
+    private static void header(Sheet sheet, int rowIndex, String[] headers) {
+        fill(sheet.createRow(rowIndex), headers);
+    }
+
+    private static void fill(Row row, String... values) {
+        for (int c = 0; c < values.length; c++) {
+            row.createCell(c).setCellValue(values[c]);
+        }
+    }
+}
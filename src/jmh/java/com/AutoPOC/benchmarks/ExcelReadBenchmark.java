@@ -0,0 +1,93 @@
+package com.AutoPOC.benchmarks;
+
+import com.AutoPOC.utils.ExcelReaderUtil;
+import com.AutoPOC.utils.ExcelSheetCache;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-side benchmarks for {@link ExcelReaderUtil}.
+ * "cold" variants clear {@link ExcelSheetCache} first and therefore include the workbook parse
+ * (sheet snapshots are disabled for the class); "snapshotCold" variants clear the cache with snapshots
+ * enabled, so they measure mapping the stored snapshot instead; "warm" variants measure lookups
+ * against an already cached sheet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dlogback.configurationFile=src/jmh/resources/logback-jmh.xml",
+        "-Dexcel.snapshot.enabled=false"})
+public class ExcelReadBenchmark {
+
+    private static final int INPUT_ID_COLUMN_IDX = 5;
+    private static final int SYNTHETIC_HEADER_ROW_IDX = 1;
+
+    @Param({"100", "10000", "100000"})
+    public int rows;
+
+    private String filePath;
+    private Sheet transactionalSheet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        filePath = BenchmarkWorkbooks.workbook(rows).toString();
+        transactionalSheet = ExcelReaderUtil.getSheet(filePath, BenchmarkWorkbooks.TRANSACTIONAL_SHEET);
+    }
+
+    @Benchmark
+    public Object getRowByKeyWarm() {
+        return ExcelReaderUtil.getRowByKey(filePath, BenchmarkWorkbooks.SYNTHETIC_SHEET, INPUT_ID_COLUMN_IDX,
+                randomInputId(), SYNTHETIC_HEADER_ROW_IDX);
+    }
+
+    @Benchmark
+    public Object getRowByKeyCold() {
+        ExcelSheetCache.clear();
+        return ExcelReaderUtil.getRowByKey(filePath, BenchmarkWorkbooks.SYNTHETIC_SHEET, INPUT_ID_COLUMN_IDX,
+                randomInputId(), SYNTHETIC_HEADER_ROW_IDX);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dlogback.configurationFile=src/jmh/resources/logback-jmh.xml",
+            "-Dexcel.snapshot.enabled=true"})
+    public Object getRowByKeySnapshotCold() {
+        ExcelSheetCache.clear();
+        return ExcelReaderUtil.getRowByKey(filePath, BenchmarkWorkbooks.SYNTHETIC_SHEET, INPUT_ID_COLUMN_IDX,
+                randomInputId(), SYNTHETIC_HEADER_ROW_IDX);
+    }
+
+    @Benchmark
+    public void getAllRowsWarm(Blackhole bh) {
+        bh.consume(ExcelReaderUtil.getAllRows(filePath, BenchmarkWorkbooks.COMMON_SHEET));
+    }
+
+    @Benchmark
+    public void getAllRowsCold(Blackhole bh) {
+        ExcelSheetCache.clear();
+        bh.consume(ExcelReaderUtil.getAllRows(filePath, BenchmarkWorkbooks.COMMON_SHEET));
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dlogback.configurationFile=src/jmh/resources/logback-jmh.xml",
+            "-Dexcel.snapshot.enabled=true"})
+    public void getAllRowsSnapshotCold(Blackhole bh) {
+        ExcelSheetCache.clear();
+        bh.consume(ExcelReaderUtil.getAllRows(filePath, BenchmarkWorkbooks.COMMON_SHEET));
+    }
+
+    @Benchmark
+    public int findNextAvailableRow() {
+        return ExcelReaderUtil.findNextAvailableRow(transactionalSheet);
+    }
+
+    private String randomInputId() {
+        return BenchmarkWorkbooks.inputId(ThreadLocalRandom.current().nextInt(1, rows + 1));
+    }
+}
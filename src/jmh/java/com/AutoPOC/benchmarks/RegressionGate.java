@@ -0,0 +1,128 @@
+package com.AutoPOC.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Compares a JMH CSV result against a stored baseline and fails when a benchmark regressed.
+ * A regression is throughput dropping, or normalized allocation (gc.alloc.rate.norm) growing,
+ * by more than the tolerance.
+ * <p>
+ * System properties:
+ * <ul>
+ *   <li>{@code jmh.gate.baseline} – baseline CSV (required)</li>
+ *   <li>{@code jmh.gate.current} – current CSV, default target/jmh-result.csv</li>
+ *   <li>{@code jmh.gate.tolerance} – allowed change in percent, default 10</li>
+ * </ul>
+ */
+public final class RegressionGate {
+
+    private static final String ALLOC_SUFFIX = ":gc.alloc.rate.norm";
+
+    private record Result(String benchmark, String params, String mode, double score, String unit) {
+        String key() {
+            return benchmark + params;
+        }
+    }
+
+    private RegressionGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String baselineFile = System.getProperty("jmh.gate.baseline");
+        if (baselineFile == null || baselineFile.isBlank()) {
+            throw new IllegalArgumentException("Set -Djmh.gate.baseline=<baseline csv>");
+        }
+        Path currentFile = Paths.get(System.getProperty("jmh.gate.current", "target/jmh-result.csv"));
+        double tolerance = Double.parseDouble(System.getProperty("jmh.gate.tolerance", "10")) / 100.0;
+
+        Map<String, Result> baseline = read(Paths.get(baselineFile));
+        Map<String, Result> current = read(currentFile);
+
+        List<String> regressions = new ArrayList<>();
+        for (Result now : current.values()) {
+            Result before = baseline.get(now.key());
+            if (before == null || Double.isNaN(before.score()) || Double.isNaN(now.score()) || before.score() == 0) {
+                continue;
+            }
+
+            boolean allocation = now.benchmark().endsWith(ALLOC_SUFFIX);
+            boolean throughput = !now.benchmark().contains(":") && "thrpt".equals(now.mode());
+            if (!allocation && !throughput) continue;
+
+            double change = (now.score() - before.score()) / before.score();
+            boolean regressed = allocation ? change > tolerance : change < -tolerance;
+            String line = String.format(Locale.ROOT, "%-80s %14.2f -> %14.2f %s (%+.1f%%)",
+                    now.key(), before.score(), now.score(), now.unit(), change * 100);
+            System.out.println((regressed ? "REGRESSED " : "ok        ") + line);
+            if (regressed) regressions.add(line);
+        }
+
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException(regressions.size() + " benchmark(s) regressed by more than "
+                    + Math.round(tolerance * 100) + "%:\n" + String.join("\n", regressions));
+        }
+        System.out.println("No regressions against " + baselineFile);
+    }
+
+    /**
+     * Reads a JMH CSV result (-rf csv). Parameter columns are folded into the key.
+     */
+    private static Map<String, Result> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        if (lines.isEmpty()) throw new IllegalArgumentException("Empty JMH result: " + file);
+
+        List<String> header = split(lines.get(0));
+        int benchmarkCol = header.indexOf("Benchmark");
+        int modeCol = header.indexOf("Mode");
+        int scoreCol = header.indexOf("Score");
+        int unitCol = header.indexOf("Unit");
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) continue;
+            List<String> cells = split(line);
+
+            StringBuilder params = new StringBuilder();
+            for (int c = 0; c < header.size(); c++) {
+                if (header.get(c).startsWith("Param: ") && c < cells.size() && !cells.get(c).isEmpty()) {
+                    params.append(' ').append(header.get(c).substring(7)).append('=').append(cells.get(c));
+                }
+            }
+
+            Result r = new Result(cells.get(benchmarkCol), params.toString(), cells.get(modeCol),
+                    parseScore(cells.get(scoreCol)), cells.get(unitCol));
+            results.put(r.key(), r);
+        }
+        return results;
+    }
+
+    private static double parseScore(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static List<String> split(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (char ch : line.toCharArray()) {
+            if (ch == '"') {
+                quoted = !quoted;
+            } else if (ch == ',' && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(ch);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
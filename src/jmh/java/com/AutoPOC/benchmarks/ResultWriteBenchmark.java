@@ -0,0 +1,73 @@
+package com.AutoPOC.benchmarks;
+
+import com.AutoPOC.utils.ConfigReader;
+import com.AutoPOC.utils.ExecutionDataUtil;
+import com.AutoPOC.utils.OrderDataUtil;
+import com.AutoPOC.utils.ResultSheetWriter;
+import org.openjdk.jmh.annotations.*;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-side benchmarks for {@link ExecutionDataUtil} and {@link OrderDataUtil}.
+ * Each operation queues one row and flushes it synchronously, i.e. one full workbook rewrite.
+ * The writer thread is stopped during setup so every write happens on the benchmark thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dlogback.configurationFile=src/jmh/resources/logback-jmh.xml"})
+public class ResultWriteBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int rows;
+
+    private Path workbook;
+    private ITestResult passedResult;
+    private int rowIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workbook = BenchmarkWorkbooks.copyOf(rows);
+        // Must be set before the result classes read their configuration
+        System.setProperty("Test_Data_File_Path", workbook.toString());
+        System.setProperty("Transactional_Data_Sheet_Name", BenchmarkWorkbooks.TRANSACTIONAL_SHEET);
+        ConfigReader.reload();
+        ResultSheetWriter.shutdown();
+
+        passedResult = (ITestResult) Proxy.newProxyInstance(ITestResult.class.getClassLoader(),
+                new Class<?>[]{ITestResult.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getStatus" -> ITestResult.SUCCESS;
+                    case "toString" -> "ITestResult[SUCCESS]";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        rowIndex = rows / 2 + 1; // a data row in the middle of the sheet
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(workbook);
+    }
+
+    @Benchmark
+    public void writeExecutionData() {
+        ExecutionDataUtil.writeExecutionData(rowIndex, passedResult);
+        ResultSheetWriter.flush();
+    }
+
+    @Benchmark
+    public void writeOrderData() {
+        OrderDataUtil.writeOrderData("1234567", "Monday, March 9, 2025", rowIndex);
+        ResultSheetWriter.flush();
+    }
+}
@@ -1,7 +1,10 @@
 package com.AutoPOC;
 
 import com.AutoPOC.utils.DriverFactory;
+import com.AutoPOC.utils.Locators;
+import com.AutoPOC.utils.StepMetrics;
 import com.AutoPOC.utils.TestContextManager;
+import com.AutoPOC.utils.WaitEngine;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.*;
@@ -9,42 +12,101 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Abstract base class for all page objects.
  * Provides reusable methods for element interactions, wait conditions,
- * and other browser utilities.
+ * and other browser utilities. Waits run on the driver's shared {@link WaitEngine}.
+ * Actions and waits are timed into {@link StepMetrics}, tagged with the concrete page class.
  * Follows Page Object Model design principles.
  */
 public abstract class BasePage {
 
     private static final Logger logger = LoggerFactory.getLogger(BasePage.class);
     private static final int DEFAULT_TIMEOUT = 10;
+    private static final int RETRY_WAIT_TIMEOUT = 5;
+    private static final String ADDRESS_XPATH = "//div[@class='address-list']//div[contains(@class, 'section')]";
+    // Returns the ids it could not set so the caller can type them instead
+    private static final String FILL_FORM_SCRIPT =
+            "var fields = arguments[0], skipped = [];" +
+            "Object.keys(fields).forEach(function (id) {" +
+            "  var el = document.getElementById(id), value = fields[id];" +
+            "  if (!el || el.disabled || el.readOnly || !el.getClientRects().length) { skipped.push(id); return; }" +
+            "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "  var setter = Object.getOwnPropertyDescriptor(proto, 'value').set;" +
+            "  el.focus();" +
+            "  setter.call(el, value);" +
+            "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "  el.blur();" +
+            "  if (el.value !== value) skipped.push(id);" +
+            "});" +
+            "return skipped;";
     protected final WebDriver driver;
+    private final WaitEngine waits;
 
     /**
-     * Initializes WebDriver instance and PageFactory elements.
+     * Initializes WebDriver instance, its wait engine and PageFactory elements.
      */
     protected BasePage() {
         this.driver = DriverFactory.getDriver();
+        this.waits = WaitEngine.forDriver(driver);
         PageFactory.initElements(driver, this);
     }
 
     // ========================= COMMON ACTIONS ========================= //
 
     protected void click(WebElement element, String logMsg) {
-        waitUntilClickable(element).click();
+        timed("click", element, () -> waitUntilClickable(element).click());
         logger.info(logMsg);
     }
 
     protected void sendKeys(WebElement element, String text) {
-        waitUntilVisible(element).clear();
-        element.sendKeys(text);
+        timed("sendKeys", element, () -> {
+            waitUntilVisible(element).clear();
+            element.sendKeys(text);
+        });
+    }
+
+    /**
+     * Fills a form in one {@code executeScript} round trip: sets each field's value through the native
+     * value setter and dispatches {@code input} and {@code change} so client-side validation still runs.
+     * Fields listed in {@code nativeIds}, and fields the script could not set (missing, hidden, disabled,
+     * read-only, or rewritten by the page), are typed with {@link #sendKeys} instead.
+     *
+     * @param fields    Field id → value, filled in iteration order; {@code null} values clear the field
+     * @param nativeIds Ids of fields that need real keystrokes
+     */
+    protected void fillForm(Map<String, String> fields, String... nativeIds) {
+        Set<String> typed = Set.of(nativeIds);
+        Map<String, String> scripted = new LinkedHashMap<>();
+        fields.forEach((id, value) -> {
+            if (!typed.contains(id)) scripted.put(id, value == null ? "" : value);
+        });
+
+        List<String> fallback = new ArrayList<>(typed);
+        if (!scripted.isEmpty()) {
+            List<?> skipped = timed("fillForm", String.join(",", scripted.keySet()),
+                    () -> (List<?>) ((JavascriptExecutor) driver).executeScript(FILL_FORM_SCRIPT, scripted));
+            skipped.forEach(id -> fallback.add((String) id));
+        }
+
+        for (String id : fallback) {
+            if (!fields.containsKey(id)) continue;
+            logger.debug("Typing field {} natively", id);
+            String value = fields.get(id);
+            sendKeys(driver.findElement(By.id(id)), value == null ? "" : value);
+        }
     }
 
     protected void selectByVisibleText(WebElement dropdown, String text) {
-        new Select(dropdown).selectByVisibleText(text);
+        timed("selectByVisibleText", dropdown, () -> new Select(dropdown).selectByVisibleText(text));
     }
 
     // ========================= WAIT HELPERS ========================= //
@@ -54,8 +116,7 @@ public abstract class BasePage {
     }
 
     protected WebElement waitUntilVisible(WebElement element, int timeout) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeout))
-                .until(ExpectedConditions.visibilityOf(element));
+        return timed("waitUntilVisible", element, () -> waits.until(ExpectedConditions.visibilityOf(element), timeout));
     }
 
     protected WebElement waitUntilClickable(WebElement element) {
@@ -63,29 +124,24 @@ public abstract class BasePage {
     }
 
     protected WebElement waitUntilClickable(WebElement element, int timeout) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeout))
-                .until(ExpectedConditions.elementToBeClickable(element));
+        return timed("waitUntilClickable", element, () -> waits.until(ExpectedConditions.elementToBeClickable(element), timeout));
     }
 
     protected WebElement waitUntilClickable(By locator, int timeout) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeout))
-                .until(ExpectedConditions.elementToBeClickable(locator));
+        return timed("waitUntilClickable", locator.toString(), () -> waits.until(ExpectedConditions.elementToBeClickable(locator), timeout));
     }
 
     protected void waitUntilTextPresent(WebElement element, String text, int timeout) {
-        new WebDriverWait(driver, Duration.ofSeconds(timeout))
-                .until(ExpectedConditions.textToBePresentInElement(element, text));
+        timed("waitUntilTextPresent", element, () -> waits.until(ExpectedConditions.textToBePresentInElement(element, text), timeout));
     }
 
     public void waitForUrlFragment(String fragment) {
-        new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT))
-                .until(ExpectedConditions.urlContains(fragment));
+        timed("waitForUrlFragment", fragment, () -> waits.until(ExpectedConditions.urlContains(fragment), DEFAULT_TIMEOUT));
     }
 
     public void waitUntilElementStale(WebElement element, int timeout) {
         try {
-            new WebDriverWait(driver, Duration.ofSeconds(timeout))
-                    .until(ExpectedConditions.stalenessOf(element));
+            timed("waitUntilElementStale", element, () -> waits.until(ExpectedConditions.stalenessOf(element), timeout));
             logger.info("Element became stale.");
         } catch (TimeoutException e) {
             logger.warn("Element did not become stale within {} seconds", timeout);
@@ -94,14 +150,66 @@ public abstract class BasePage {
 
     public boolean waitUntilElementGone(WebElement element) {
         try {
-            return new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT))
-                    .until(ExpectedConditions.invisibilityOf(element));
+            return timed("waitUntilElementGone", element, () -> waits.until(ExpectedConditions.invisibilityOf(element), DEFAULT_TIMEOUT));
         } catch (TimeoutException e) {
             logger.warn("Element did not disappear in time");
             return false;
         }
     }
 
+    // ========================= PAGE SYNCHRONIZATION ========================= //
+
+    /**
+     * Waits until the browser reports document.readyState == 'complete'.
+     */
+    protected void waitForDocumentReady(int timeout) {
+        timed("waitForDocumentReady", "document", () -> waits.untilAllJs(timeout, "document.readyState === 'complete'"));
+    }
+
+    /**
+     * Waits until the document is loaded and no jQuery AJAX requests are in flight.
+     * Pages without jQuery only wait for the document to be ready.
+     */
+    protected void waitForAjaxIdle(int timeout) {
+        timed("waitForAjaxIdle", "document", () ->
+                waits.untilAllJs(timeout, "document.readyState === 'complete'", "!window.jQuery || window.jQuery.active === 0"));
+    }
+
+    /**
+     * Waits until the DOM has seen no mutations for {@code quietMillis}, using a MutationObserver.
+     * The session's script timeout is raised for the call and restored afterwards.
+     *
+     * @return {@code true} if the DOM settled, {@code false} if it was still changing after {@code timeout} seconds
+     */
+    protected boolean waitForDomSettled(int quietMillis, int timeout) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration previous = timeouts.getScriptTimeout();
+        timeouts.scriptTimeout(Duration.ofSeconds(timeout + 1));
+        try {
+            Object settled = timed("waitForDomSettled", "document", () -> ((JavascriptExecutor) driver).executeAsyncScript(
+                    "var quiet = arguments[0], max = arguments[1], done = arguments[arguments.length - 1];" +
+                    "var finished = false, timer;" +
+                    "var observer = new MutationObserver(function () { clearTimeout(timer); timer = setTimeout(finish, quiet, true); });" +
+                    "function finish(result) { if (finished) return; finished = true; observer.disconnect(); clearTimeout(timer); done(result); }" +
+                    "observer.observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });" +
+                    "timer = setTimeout(finish, quiet, true);" +
+                    "setTimeout(finish, max, false);",
+                    quietMillis, timeout * 1000));
+            return Boolean.TRUE.equals(settled);
+        } finally {
+            timeouts.scriptTimeout(previous);
+        }
+    }
+
+    /**
+     * Waits until a dropdown contains an option with the given visible text,
+     * e.g. dependent options loaded after a parent selection.
+     */
+    protected void waitUntilOptionPresent(WebElement dropdown, String text, int timeout) {
+        timed("waitUntilOptionPresent", dropdown, () -> waits.until(d -> new Select(dropdown).getOptions().stream()
+                .anyMatch(o -> o.getText().trim().equals(text.trim())), timeout));
+    }
+
     // ========================= VALIDATIONS & RETRY ========================= //
 
     protected boolean isDisplayed(WebElement element, int timeout) {
@@ -114,18 +222,15 @@ public abstract class BasePage {
     }
 
     protected void acceptAlert() {
-        new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT))
-                .until(ExpectedConditions.alertIsPresent()).accept();
+        timed("acceptAlert", "alert", () -> waits.until(ExpectedConditions.alertIsPresent(), DEFAULT_TIMEOUT).accept());
     }
 
     public void retryClick(WebElement element, String logMsg, String expectedUrlFragment, int maxRetries) {
         for (int i = 1; i <= maxRetries; i++) {
             try {
                 click(element, logMsg + " (Attempt " + i + ")");
-                Thread.sleep(1000);
-                if (driver.getCurrentUrl().contains(expectedUrlFragment)) {
-                    return;
-                }
+                waits.until(ExpectedConditions.urlContains(expectedUrlFragment), RETRY_WAIT_TIMEOUT);
+                return;
             } catch (Exception e) {
                 logger.warn("Retry {} failed: {}", i, e.getMessage());
             }
@@ -137,17 +242,45 @@ public abstract class BasePage {
         if (rawValue == null || rawValue.isBlank()) {
             throw new IllegalArgumentException(fieldName + " is missing!");
         }
-        String xpath = String.format(xpathTemplate, rawValue.trim());
-        click(driver.findElement(By.xpath(xpath)), "Clicked " + fieldName + ": " + rawValue);
+        By locator = Locators.xpath(xpathTemplate, rawValue.trim());
+        WebElement element = timed("findElement", "By.xpath: " + xpathTemplate, () -> driver.findElement(locator));
+        click(element, "Clicked " + fieldName + ": " + rawValue);
     }
 
     // ========================= UTILITIES ========================= //
 
     public int getNumberOfAddresses() {
-        return driver.findElements(By.xpath("//div[@class='address-list']//div[contains(@class, 'section')]")).size();
+        return countAll(ADDRESS_XPATH).get(0);
+    }
+
+    /**
+     * Counts the matches of several XPaths in one round trip; see {@link Locators#count}.
+     *
+     * @return Number of matches per XPath
+     */
+    protected List<Integer> countAll(String... xpaths) {
+        return timed("countAll", String.join(" | ", xpaths), () -> Locators.count(driver, xpaths));
     }
 
     protected Map<String, String> getInputData() {
         return TestContextManager.getInputData();
     }
+
+    // ========================= STEP TIMING ========================= //
+
+    private <T> T timed(String action, String locator, Supplier<T> step) {
+        return StepMetrics.time(getClass().getSimpleName(), action, locator, step);
+    }
+
+    private <T> T timed(String action, WebElement element, Supplier<T> step) {
+        return timed(action, StepMetrics.describe(element), step);
+    }
+
+    private void timed(String action, String locator, Runnable step) {
+        StepMetrics.time(getClass().getSimpleName(), action, locator, step);
+    }
+
+    private void timed(String action, WebElement element, Runnable step) {
+        timed(action, StepMetrics.describe(element), step);
+    }
 }
@@ -7,6 +7,7 @@ import org.openqa.selenium.support.ui.Select;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -66,30 +67,12 @@ public class AddProductsToCartAndPlaceOrder extends BasePage {
     @FindBy(id = "BillingNewAddress_FirstName")
     private WebElement billingFirstName;
 
-    @FindBy(id = "BillingNewAddress_LastName")
-    private WebElement billingLastName;
-
-    @FindBy(id = "BillingNewAddress_Email")
-    private WebElement billingEmail;
-
-    @FindBy(id = "BillingNewAddress_City")
-    private WebElement billingCity;
-
-    @FindBy(id = "BillingNewAddress_Address1")
-    private WebElement billingAddress1;
-
-    @FindBy(id = "BillingNewAddress_ZipPostalCode")
-    private WebElement billingZipPostalCode;
-
-    @FindBy(id = "BillingNewAddress_PhoneNumber")
-    private WebElement billingPhoneNumber;
-
     @FindBy(xpath = "//input[contains(@class,'confirm-order-next-step-button') and @value='Confirm']")
     private WebElement confirmOrderButton;
 
     // ─── Workflow Methods ───────────────────────────────────────────────
 
-    public void deleteAddress() throws InterruptedException {
+    public void deleteAddress() {
         click(accountLink, "Clicked Account link");
         click(addressesLink, "Clicked Addresses link");
 
@@ -105,7 +88,7 @@ public class AddProductsToCartAndPlaceOrder extends BasePage {
             driver.navigate().refresh();
             logger.info("Page refreshed using navigate().refresh()");
 
-            Thread.sleep(2000);
+            waitForDocumentReady(10);
             boolean deleted = waitUntilElementGone(deleteAddressButton);
             logger.info(deleted ? "Address deleted successfully." : "Delete button still visible or address block not cleared.");
         }
@@ -155,23 +138,28 @@ public class AddProductsToCartAndPlaceOrder extends BasePage {
         click(estimateShippingButton, "Estimate shipping button clicked");
     }
 
-    public void fillBillingDetailsFromInput() throws InterruptedException {
+    public void fillBillingDetailsFromInput() {
         Map<String, String> d = getInputData();
-        logger.info("---- synthetic inputData keys&values ----");
-        d.forEach((k, v) -> logger.info("[{}] → [{}]", k, v));
-
-        sendKeys(billingFirstName, d.get("Billing FirstName"));
-        sendKeys(billingLastName, d.get("Billing LastName"));
-        sendKeys(billingEmail, d.get("Email"));
+        if (logger.isDebugEnabled()) {
+            logger.debug("---- synthetic inputData keys&values ----");
+            d.forEach((k, v) -> logger.debug("[{}] → [{}]", k, v));
+        }
 
+        waitUntilVisible(billingFirstName);
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("BillingNewAddress_FirstName", d.get("Billing FirstName"));
+        fields.put("BillingNewAddress_LastName", d.get("Billing LastName"));
+        fields.put("BillingNewAddress_Email", d.get("Email"));
+        fields.put("BillingNewAddress_City", d.get("City"));
+        fields.put("BillingNewAddress_Address1", d.get("Address 1"));
+        fields.put("BillingNewAddress_ZipPostalCode", d.get("Zip"));
+        fields.put("BillingNewAddress_PhoneNumber", d.get("Phone"));
+        fillForm(fields);
+
+        // Country/state stay on Select: the country change reloads the state list over AJAX
         selectByVisibleText(countryDropdown, d.get("Country"));
         selectStateOption(d.get("State"));
 
-        sendKeys(billingCity, d.get("City"));
-        sendKeys(billingAddress1, d.get("Address 1"));
-        sendKeys(billingZipPostalCode, d.get("Zip"));
-        sendKeys(billingPhoneNumber, d.get("Phone"));
-
         logger.info("Filled billing & shipping details");
     }
 
@@ -193,14 +181,23 @@ public class AddProductsToCartAndPlaceOrder extends BasePage {
 
     // ─── Helper Methods ────────────────────────────────────────────────
 
-    private void selectStateOption(String state) throws InterruptedException {
+    private void selectStateOption(String state) {
+        // Country change reloads the state list over AJAX
+        waitForAjaxIdle(10);
         var select = new Select(stateDropdown);
-        Thread.sleep(3000);
-        var opts = select.getOptions();
         if (state != null && !state.isBlank()) {
+            waitUntilOptionPresent(stateDropdown, state, 10);
             select.selectByVisibleText(state);
             logger.info("Explicitly selected state: {}", state);
-        } else if (!opts.isEmpty()) {
+            return;
+        }
+
+        // No option to wait for: let the reloaded list settle before picking from it
+        if (!waitForDomSettled(200, 5)) {
+            logger.warn("State list still changing after 5 seconds; picking from the current options");
+        }
+        var opts = select.getOptions();
+        if (!opts.isEmpty()) {
             String random = opts.get(new Random().nextInt(opts.size())).getText();
             select.selectByVisibleText(random);
             logger.info("Random state selected: {}", random);
@@ -1,20 +1,26 @@
 package com.AutoPOC.pages;
 
 import com.AutoPOC.BasePage;
+import com.AutoPOC.utils.AuthSessionCache;
+import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.Assert;
 
+import java.net.URI;
+import java.util.Set;
+
 /**
  * Page object for handling login functionality.
  * Includes actions for entering credentials, clicking login,
- * and validating login success.
+ * validating login success, and replaying cached authenticated sessions.
  */
 public class LoginPage extends BasePage {
 
     private static final Logger logger = LoggerFactory.getLogger(LoginPage.class);
+    private static final int RESTORE_TIMEOUT = 10;
 
     @FindBy(xpath = "//a[@class='ico-login']")
     private WebElement loginLink;
@@ -47,12 +53,22 @@ public class LoginPage extends BasePage {
 
     /**
      * Performs the login action by entering the provided credentials and clicking the login button.
+     * If a cached authenticated session exists for this site and user, its cookies are replayed
+     * instead; the UI login is used when there is none or the replay does not authenticate.
+     * With {@code auth.session.cache.enabled=false} the UI login is always used and no cookies are captured.
      *
      * @param user the email or username to be used for login.
      * @param pass the password associated with the given user.
      * @throws AssertionError if the login attempt is not successful.
      */
     public void login(String user, String pass) {
+        boolean cached = AuthSessionCache.isEnabled();
+        String origin = cached ? getOrigin() : null;
+        if (cached && restoreSession(origin, user)) {
+            logger.info("Logged in with cached session cookies for {}", user);
+            return;
+        }
+
         click(loginLink, "Main Login button clicked");
         logger.info("Attempting to login with email: {}", user);
         sendKeys(email, user);
@@ -61,5 +77,40 @@ public class LoginPage extends BasePage {
         logger.info("Password entered");
         click(loginButton, "Login button clicked");
         Assert.assertTrue(isLoginSuccessful(), "Login was not successful.");
+
+        if (cached) {
+            AuthSessionCache.put(origin, user, driver.manage().getCookies());
+        }
+    }
+
+    /**
+     * Replays cached auth cookies into the current session and validates them.
+     *
+     * @return {@code true} if the session is authenticated after the replay
+     */
+    private boolean restoreSession(String origin, String user) {
+        Set<Cookie> cookies = AuthSessionCache.get(origin, user);
+        if (cookies == null) return false;
+
+        try {
+            cookies.forEach(c -> driver.manage().addCookie(c));
+            driver.navigate().refresh();
+            // Wait for the reloaded page before judging the session, so a slow reload does not discard a valid one
+            waitForDocumentReady(RESTORE_TIMEOUT);
+            if (isDisplayed(logoutLink, RESTORE_TIMEOUT)) return true;
+            logger.info("Cached session for {} was rejected; falling back to UI login", user);
+        } catch (Exception e) {
+            logger.warn("Unable to replay cached session for {}: {}", user, e.getMessage());
+        }
+
+        AuthSessionCache.invalidate(origin, user);
+        driver.manage().deleteAllCookies();
+        driver.navigate().refresh();
+        return false;
+    }
+
+    private String getOrigin() {
+        URI uri = URI.create(driver.getCurrentUrl());
+        return uri.getScheme() + "://" + uri.getAuthority();
     }
 }
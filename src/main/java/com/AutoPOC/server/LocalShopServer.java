@@ -0,0 +1,365 @@
+package com.AutoPOC.server;
+
+import com.AutoPOC.server.ShopCatalog.Product;
+import com.AutoPOC.utils.ConfigReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded stand-in for the demo web shop, served from the JDK HTTP server on the loopback interface.
+ * Implements the login, catalog, cart, one-page checkout and order details pages the page objects use,
+ * so suites can run without internet access against a target with predictable response times.
+ * <p>
+ * Artificial latency ({@code local.shop.latency.ms} plus up to {@code local.shop.latency.jitter.ms})
+ * is added to every request, and {@code local.shop.threads} caps how many requests are served at once.
+ * Any username/password is accepted. State lives in memory for the lifetime of the server.
+ */
+public class LocalShopServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalShopServer.class);
+
+    private static final boolean ENABLED = ConfigReader.getBoolean("local.shop.enabled", false);
+    private static final int PORT = ConfigReader.getInt("local.shop.port", 0);
+    private static final int THREADS = ConfigReader.getInt("local.shop.threads", 8);
+    private static final long LATENCY_MS = ConfigReader.getLong("local.shop.latency.ms", 0);
+    private static final long JITTER_MS = ConfigReader.getLong("local.shop.latency.jitter.ms", 0);
+
+    private static final String SESSION_COOKIE = "LocalShop.Session";
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+
+    private static final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private static final Map<String, List<Address>> addressesByUser = new ConcurrentHashMap<>();
+    private static final Map<Integer, Order> orders = new ConcurrentHashMap<>();
+    private static final AtomicInteger addressIds = new AtomicInteger();
+    private static final AtomicInteger orderIds = new AtomicInteger(1000);
+
+    record Address(int id, String firstName, String lastName, String email, String country, String state,
+                   String city, String address1, String zip, String phone) {
+    }
+
+    record Order(int id, LocalDate date, String user, List<Product> items) {
+    }
+
+    /**
+     * Browser session identified by the session cookie; replaying the cookie restores the login.
+     */
+    private static final class Session {
+        volatile String user;
+        final List<Product> cart = new CopyOnWriteArrayList<>();
+    }
+
+    private record Response(int status, String contentType, String body, String location) {
+        static Response html(String body) {
+            return new Response(200, "text/html; charset=utf-8", body, null);
+        }
+
+        static Response text(int status, String body) {
+            return new Response(status, "text/plain; charset=utf-8", body, null);
+        }
+
+        static Response redirect(String location) {
+            return new Response(302, "text/plain; charset=utf-8", "", location);
+        }
+    }
+
+    /**
+     * @return {@code true} if {@code local.shop.enabled=true}
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts the server if it is not running yet.
+     *
+     * @return Base URL of the shop, e.g. http://127.0.0.1:41234/
+     */
+    public static synchronized String start() {
+        if (server != null) return getBaseUrl();
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), PORT), THREADS * 4);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to start local shop on port " + PORT, e);
+        }
+        executor = Executors.newFixedThreadPool(THREADS, r -> {
+            Thread t = new Thread(r, "local-shop");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", LocalShopServer::handle);
+        server.start();
+
+        logger.info("Local shop started at {} ({} threads, {} ms latency, {} ms jitter)",
+                getBaseUrl(), THREADS, LATENCY_MS, JITTER_MS);
+        return getBaseUrl();
+    }
+
+    /**
+     * Stops the server and discards all sessions, addresses and orders.
+     */
+    public static synchronized void stop() {
+        if (server == null) return;
+
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+        sessions.clear();
+        addressesByUser.clear();
+        orders.clear();
+        logger.info("Local shop stopped");
+    }
+
+    /**
+     * @return {@code true} while the server is running
+     */
+    public static synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return Base URL of the running shop
+     * @throws IllegalStateException if the server is not running
+     */
+    public static synchronized String getBaseUrl() {
+        if (server == null) throw new IllegalStateException("Local shop is not running");
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort() + "/";
+    }
+
+    // ─── Request handling ──────────────────────────────────────────────
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            simulateLatency();
+
+            String token = sessionToken(exchange);
+            Session session = token == null ? null : sessions.get(token);
+            if (session == null) {
+                token = UUID.randomUUID().toString();
+                session = new Session();
+                sessions.put(token, session);
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + token + "; Path=/; HttpOnly");
+            }
+
+            Response response;
+            try {
+                response = route(exchange, session);
+            } catch (RuntimeException e) {
+                logger.error("Local shop failed on {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                response = Response.text(500, "Internal error: " + e.getMessage());
+            }
+            send(exchange, response);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Response route(HttpExchange exchange, Session session) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        boolean get = "GET".equals(method);
+        boolean post = "POST".equals(method);
+
+        if (get && path.equals("/")) return page(session, "Home", ShopPages.home());
+        if (get && path.equals("/login")) return page(session, "Login", ShopPages.login(null));
+        if (post && path.equals("/login")) return login(exchange, session);
+        if (get && path.equals("/logout")) {
+            session.user = null;
+            return Response.redirect("/");
+        }
+        if (get && path.startsWith("/category/")) {
+            return ShopCatalog.category(tail(path, "/category/"))
+                    .map(c -> page(session, c.name(), ShopPages.category(c)))
+                    .orElseGet(() -> notFound(session));
+        }
+        if (get && path.startsWith("/product/")) {
+            return ShopCatalog.product(tail(path, "/product/"))
+                    .map(p -> page(session, p.name(), ShopPages.product(p)))
+                    .orElseGet(() -> notFound(session));
+        }
+        if (post && path.startsWith("/cart/add/")) {
+            Optional<Product> product = ShopCatalog.product(parseId(tail(path, "/cart/add/")));
+            if (product.isEmpty()) return Response.text(404, "No such product");
+            session.cart.add(product.get());
+            return Response.text(200, String.valueOf(session.cart.size()));
+        }
+        if (get && path.equals("/cart")) return page(session, "Shopping Cart", ShopPages.cart(session.cart));
+        if (post && path.equals("/cart/estimateshipping")) return Response.html(ShopPages.shippingOptions());
+        if (get && path.equals("/country/states")) {
+            int countryId = parseId(query(exchange).getOrDefault("countryId", "0"));
+            return Response.html(ShopPages.stateOptions(ShopCatalog.country(countryId).orElse(null)));
+        }
+
+        // Everything below requires a logged-in customer
+        if (session.user == null) {
+            return get ? Response.redirect("/login") : Response.text(401, "Please log in");
+        }
+
+        if (get && path.equals("/customer/info")) return page(session, "Account", ShopPages.customerInfo(session.user));
+        if (get && path.equals("/customer/addresses")) {
+            return page(session, "Addresses", ShopPages.addresses(addresses(session.user)));
+        }
+        if (get && path.startsWith("/customer/addressdelete/")) {
+            int id = parseId(tail(path, "/customer/addressdelete/"));
+            addresses(session.user).removeIf(a -> a.id() == id);
+            return Response.redirect("/customer/addresses");
+        }
+        if (get && path.equals("/onepagecheckout")) return page(session, "Checkout", ShopPages.checkout(session.user));
+        if (post && path.startsWith("/checkout/step/")) return checkoutStep(exchange, session, tail(path, "/checkout/step/"));
+        if (get && path.startsWith("/checkout/completed/")) {
+            Order order = orders.get(parseId(tail(path, "/checkout/completed/")));
+            return order == null ? notFound(session) : page(session, "Checkout", ShopPages.completed(order));
+        }
+        if (get && path.startsWith("/orderdetails/")) {
+            Order order = orders.get(parseId(tail(path, "/orderdetails/")));
+            return order == null || !order.user().equals(session.user)
+                    ? notFound(session)
+                    : page(session, "Order information", ShopPages.orderDetails(order));
+        }
+        return notFound(session);
+    }
+
+    private static Response login(HttpExchange exchange, Session session) throws IOException {
+        Map<String, String> form = form(exchange);
+        String email = form.getOrDefault("Email", "").trim();
+        if (email.isEmpty() || form.getOrDefault("Password", "").isEmpty()) {
+            return page(session, "Login", ShopPages.login("Login was unsuccessful. Please correct the errors and try again."));
+        }
+        session.user = email;
+        return Response.redirect("/");
+    }
+
+    private static Response checkoutStep(HttpExchange exchange, Session session, String step) throws IOException {
+        Map<String, String> form = form(exchange);
+        return switch (step) {
+            case "billing" -> {
+                List<String> missing = new ArrayList<>();
+                for (String field : List.of("FirstName", "LastName", "Email", "City", "Address1", "ZipPostalCode", "PhoneNumber")) {
+                    if (form.getOrDefault(field, "").isBlank()) missing.add(field);
+                }
+                Optional<ShopCatalog.Country> country = ShopCatalog.country(parseId(form.getOrDefault("CountryId", "0")));
+                if (country.isEmpty()) missing.add("CountryId");
+                if (!missing.isEmpty()) yield Response.text(400, "Required fields missing: " + String.join(", ", missing));
+
+                // Like the real shop, a new billing address is saved to the customer's address book
+                addresses(session.user).add(new Address(addressIds.incrementAndGet(), form.get("FirstName"),
+                        form.get("LastName"), form.get("Email"), country.get().name(), stateName(country.get(), form),
+                        form.get("City"), form.get("Address1"), form.get("ZipPostalCode"), form.get("PhoneNumber")));
+                yield Response.text(200, "");
+            }
+            case "shipping", "shipping-method", "payment-method", "payment-info" -> Response.text(200, "");
+            case "confirm-order" -> {
+                Order order = new Order(orderIds.incrementAndGet(), LocalDate.now(), session.user, List.copyOf(session.cart));
+                orders.put(order.id(), order);
+                session.cart.clear();
+                logger.debug("Local shop order {} placed by {} ({} items)", order.id(), order.user(), order.items().size());
+                yield Response.text(200, String.valueOf(order.id()));
+            }
+            default -> Response.text(404, "Unknown checkout step: " + step);
+        };
+    }
+
+    // ─── Helpers ───────────────────────────────────────────────────────
+
+    private static Response page(Session session, String title, String body) {
+        return Response.html(ShopPages.layout(session.user, session.cart.size(), title, body));
+    }
+
+    private static Response notFound(Session session) {
+        Response page = page(session, "Page not found", ShopPages.notFound());
+        return new Response(404, page.contentType(), page.body(), null);
+    }
+
+    private static List<Address> addresses(String user) {
+        return addressesByUser.computeIfAbsent(user.toLowerCase(Locale.ROOT), u -> new CopyOnWriteArrayList<>());
+    }
+
+    private static String stateName(ShopCatalog.Country country, Map<String, String> form) {
+        int index = parseId(form.getOrDefault("StateProvinceId", "0")) - country.id() * 100 - 1;
+        return index >= 0 && index < country.states().size() ? country.states().get(index) : "";
+    }
+
+    private static void simulateLatency() {
+        long delay = LATENCY_MS + (JITTER_MS > 0 ? ThreadLocalRandom.current().nextLong(JITTER_MS + 1) : 0);
+        if (delay <= 0) return;
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", response.contentType());
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        if (response.location() != null) exchange.getResponseHeaders().set("Location", response.location());
+        exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String sessionToken(HttpExchange exchange) {
+        List<String> headers = exchange.getRequestHeaders().getOrDefault("Cookie", List.of());
+        for (String header : headers) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && pair[0].equals(SESSION_COOKIE)) return pair[1];
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> form(HttpExchange exchange) throws IOException {
+        return decode(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        String raw = exchange.getRequestURI().getRawQuery();
+        return raw == null ? Map.of() : decode(raw);
+    }
+
+    private static Map<String, String> decode(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        for (String pair : encoded.split("&")) {
+            if (pair.isEmpty()) continue;
+            String[] kv = pair.split("=", 2);
+            values.put(URLDecoder.decode(kv[0], StandardCharsets.UTF_8),
+                    kv.length > 1 ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : "");
+        }
+        return values;
+    }
+
+    private static String tail(String path, String prefix) {
+        return path.substring(prefix.length());
+    }
+
+    private static int parseId(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
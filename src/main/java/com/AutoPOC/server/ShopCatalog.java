@@ -0,0 +1,123 @@
+package com.AutoPOC.server;
+
+import java.util.*;
+
+/**
+ * Static catalog served by {@link LocalShopServer}.
+ * Mirrors the categories, products and countries of the demo web shop that the
+ * synthetic test data refers to (e.g. Computers / Desktops / "Build your own expensive computer").
+ */
+final class ShopCatalog {
+
+    record Product(int id, String slug, String name, String price) {
+    }
+
+    record Category(String slug, String name, List<Category> subCategories, List<Product> products) {
+    }
+
+    record Country(int id, String name, List<String> states) {
+    }
+
+    static final List<Category> TOP_MENU;
+    static final List<Country> COUNTRIES;
+
+    private static final Map<String, Category> categoriesBySlug = new HashMap<>();
+    private static final Map<String, Product> productsBySlug = new HashMap<>();
+    private static final Map<Integer, Product> productsById = new HashMap<>();
+
+    static {
+        TOP_MENU = List.of(
+                category("Books", products(
+                        product(13, "Computing and Internet", "10.00"),
+                        product(45, "Fiction", "24.00"),
+                        product(22, "Health Book", "10.00"))),
+                category("Computers", List.of(
+                        category("Desktops", products(
+                                product(72, "Build your own cheap computer", "800.00"),
+                                product(16, "Build your own computer", "1200.00"),
+                                product(74, "Build your own expensive computer", "1800.00"),
+                                product(75, "Desktop PC with CDRW", "500.00"))),
+                        category("Notebooks", products(
+                                product(31, "14.1-inch Laptop", "1590.00"))),
+                        category("Accessories", products(
+                                product(36, "Blue Jeans Mouse Pad", "5.00"),
+                                product(51, "Computer Cables", "15.00"))))),
+                category("Electronics", List.of(
+                        category("Camera, photo", products(
+                                product(17, "1MP 60GB Hard Drive Digital Camera", "425.00"),
+                                product(19, "Digital SLR Camera 12.2 Mpixel", "1300.00"))),
+                        category("Cell phones", products(
+                                product(43, "Smartphone", "100.00"),
+                                product(20, "Phone Cover", "10.00"),
+                                product(15, "Used phone", "5.00"))))),
+                category("Apparel & Shoes", products(
+                        product(5, "50's Rockabilly Polka Dot Top JR Plus Size", "11.00"),
+                        product(28, "Blue and green Sneaker", "11.00"))),
+                category("Digital downloads", products(
+                        product(52, "3rd Album", "1.00"),
+                        product(53, "Music 2", "10.00"))),
+                category("Jewelry", products(
+                        product(71, "Black & White Diamond Heart", "130.00"),
+                        product(14, "Vintage Style Three Stone Diamond Engagement Ring", "2100.00"))),
+                category("Gift Cards", products(
+                        product(2, "$5 Virtual Gift Card", "5.00"),
+                        product(4, "$100 Physical Gift Card", "100.00"))));
+
+        COUNTRIES = List.of(
+                new Country(1, "United States", List.of("Alabama", "Alaska", "Arizona", "California", "Colorado",
+                        "Florida", "Georgia", "Illinois", "New York", "Texas", "Washington")),
+                new Country(2, "Canada", List.of("Alberta", "British Columbia", "Manitoba", "New Brunswick",
+                        "Nova Scotia", "Ontario", "Quebec", "Saskatchewan")),
+                new Country(80, "Germany", List.of()),
+                new Country(133, "India", List.of()),
+                new Country(233, "United Kingdom", List.of()));
+    }
+
+    private ShopCatalog() {
+    }
+
+    static Optional<Category> category(String slug) {
+        return Optional.ofNullable(categoriesBySlug.get(slug));
+    }
+
+    static Optional<Product> product(String slug) {
+        return Optional.ofNullable(productsBySlug.get(slug));
+    }
+
+    static Optional<Product> product(int id) {
+        return Optional.ofNullable(productsById.get(id));
+    }
+
+    static Optional<Country> country(int id) {
+        return COUNTRIES.stream().filter(c -> c.id() == id).findFirst();
+    }
+
+    // ─── Catalog construction ──────────────────────────────────────────
+
+    private static Category category(String name, List<?> children) {
+        List<Category> subs = new ArrayList<>();
+        List<Product> items = new ArrayList<>();
+        for (Object child : children) {
+            if (child instanceof Category c) subs.add(c);
+            else if (child instanceof Product p) items.add(p);
+        }
+        Category category = new Category(slug(name), name, List.copyOf(subs), List.copyOf(items));
+        categoriesBySlug.put(category.slug(), category);
+        return category;
+    }
+
+    private static List<Product> products(Product... products) {
+        return List.of(products);
+    }
+
+    private static Product product(int id, String name, String price) {
+        Product product = new Product(id, slug(name), name, price);
+        productsBySlug.put(product.slug(), product);
+        productsById.put(id, product);
+        return product;
+    }
+
+    static String slug(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+}
@@ -0,0 +1,485 @@
+package com.AutoPOC.server;
+
+import com.AutoPOC.server.LocalShopServer.Address;
+import com.AutoPOC.server.LocalShopServer.Order;
+import com.AutoPOC.server.ShopCatalog.Category;
+import com.AutoPOC.server.ShopCatalog.Country;
+import com.AutoPOC.server.ShopCatalog.Product;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * HTML for the pages served by {@link LocalShopServer}.
+ * Markup keeps the ids, classes and onclick handlers the page objects locate on the demo web shop,
+ * and nothing more. Page scripts are inline so the shop works without any network access.
+ */
+final class ShopPages {
+
+    private static final DateTimeFormatter ORDER_DATE = DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy", Locale.US);
+
+    // Synchronous XHR keeps each click's server round trip inside the click itself, so the page state
+    // is final when WebDriver returns. Only the state list loads asynchronously (tracked in jQuery.active,
+    // like the jQuery AJAX call on the real shop) so waitForAjaxIdle has something to wait for.
+    private static final String SCRIPT = """
+            window.jQuery = window.jQuery || { active: 0 };
+            var Shop = {
+              post: function (url, body) {
+                var x = new XMLHttpRequest();
+                x.open('POST', url, false);
+                x.setRequestHeader('Content-Type', 'application/x-www-form-urlencoded');
+                x.send(body || '');
+                return x;
+              },
+              addToCart: function (id) {
+                var x = Shop.post('/cart/add/' + id);
+                if (x.status === 200) {
+                  document.querySelector('.cart-qty').textContent = '(' + x.responseText + ')';
+                  document.getElementById('bar-notification').style.display = 'block';
+                }
+              },
+              estimateShipping: function () {
+                document.getElementById('shipping-results').innerHTML = Shop.post('/cart/estimateshipping').responseText;
+              },
+              checkout: function () {
+                if (!document.getElementById('termsofservice').checked) {
+                  alert('Please accept the terms of service before the next step.');
+                  return;
+                }
+                location.href = '/onepagecheckout';
+              },
+              loadStates: function (countryId) {
+                var select = document.getElementById('BillingNewAddress_StateProvinceId');
+                var x = new XMLHttpRequest();
+                jQuery.active++;
+                x.open('GET', '/country/states?countryId=' + encodeURIComponent(countryId), true);
+                x.onloadend = function () {
+                  if (x.status === 200) select.innerHTML = x.responseText;
+                  jQuery.active--;
+                };
+                x.send();
+              }
+            };
+            """;
+
+    private static final String CHECKOUT_SCRIPT = """
+            var Checkout = {
+              steps: ['billing', 'shipping', 'shipping-method', 'payment-method', 'payment-info', 'confirm-order'],
+              save: function (step, body) {
+                var x = Shop.post('/checkout/step/' + step, body);
+                var error = document.getElementById('checkout-error');
+                error.textContent = x.status === 200 ? '' : x.responseText;
+                error.style.display = x.status === 200 ? 'none' : 'block';
+                return x;
+              },
+              next: function (step) {
+                var i = Checkout.steps.indexOf(step), next = Checkout.steps[i + 1];
+                document.getElementById('checkout-step-' + step).style.display = 'none';
+                document.getElementById('opc-' + step).className = 'tab-section allow';
+                document.getElementById('checkout-step-' + next).style.display = 'block';
+                document.getElementById('opc-' + next).className = 'tab-section allow active';
+              },
+              saveAndNext: function (step, body) {
+                if (Checkout.save(step, body).status === 200) Checkout.next(step);
+              },
+              form: function (id) {
+                return new URLSearchParams(new FormData(document.getElementById(id))).toString();
+              }
+            };
+            var Billing = { save: function () { Checkout.saveAndNext('billing', Checkout.form('co-billing-form')); } };
+            var Shipping = { save: function () { Checkout.saveAndNext('shipping'); } };
+            var ShippingMethod = { save: function () { Checkout.saveAndNext('shipping-method', Checkout.form('co-shipping-method-form')); } };
+            var PaymentMethod = { save: function () { Checkout.saveAndNext('payment-method', Checkout.form('co-payment-method-form')); } };
+            var PaymentInfo = { save: function () { Checkout.saveAndNext('payment-info'); } };
+            var ConfirmOrder = {
+              saving: false,
+              save: function () {
+                if (ConfirmOrder.saving) return;
+                ConfirmOrder.saving = true;
+                var x = Checkout.save('confirm-order');
+                if (x.status === 200) location.href = '/checkout/completed/' + x.responseText;
+                else ConfirmOrder.saving = false;
+              }
+            };
+            """;
+
+    private ShopPages() {
+    }
+
+    // ─── Layout ────────────────────────────────────────────────────────
+
+    static String layout(String user, int cartQty, String title, String body) {
+        String links = user == null
+                ? """
+                  <li><a href="/register" class="ico-register">Register</a></li>
+                  <li><a href="/login" class="ico-login">Log in</a></li>"""
+                : """
+                  <li><a href="/customer/info" class="account">%s</a></li>
+                  <li><a href="/logout" class="ico-logout">Log out</a></li>""".formatted(esc(user));
+
+        String menu = ShopCatalog.TOP_MENU.stream()
+                .map(c -> "<li><a href=\"/category/%s\">%s</a></li>".formatted(c.slug(), esc(c.name())))
+                .collect(Collectors.joining("\n"));
+
+        return """
+                <!DOCTYPE html>
+                <html>
+                <head>
+                <meta charset="utf-8">
+                <title>Local Web Shop. %s</title>
+                <script>%s</script>
+                </head>
+                <body>
+                <div class="header">
+                  <div class="header-logo"><a href="/">Local Web Shop</a></div>
+                  <div class="header-links">
+                    <ul>
+                %s
+                      <li id="topcartlink"><a href="/cart" class="ico-cart"><span class="cart-label">Shopping cart</span>
+                        <span class="cart-qty">(%d)</span></a></li>
+                    </ul>
+                  </div>
+                </div>
+                <div class="header-menu">
+                  <ul class="top-menu">
+                %s
+                  </ul>
+                </div>
+                <div id="bar-notification" class="bar-notification success" style="display:none">
+                  <p class="content">The product has been added to your shopping cart</p>
+                </div>
+                <div class="master-wrapper-main">
+                %s
+                </div>
+                </body>
+                </html>
+                """.formatted(esc(title), SCRIPT, links, cartQty, menu, body);
+    }
+
+    // ─── Pages ─────────────────────────────────────────────────────────
+
+    static String home() {
+        return """
+                <div class="page home-page">
+                  <div class="topic-html-content-header"><h2>Welcome to our store</h2></div>
+                </div>""";
+    }
+
+    static String login(String error) {
+        return """
+                <div class="page login-page">
+                  <div class="page-title"><h1>Welcome, Please Sign In!</h1></div>
+                  %s
+                  <form method="post" action="/login">
+                    <div class="form-fields">
+                      <label for="Email">Email:</label>
+                      <input class="email" id="Email" name="Email" type="text">
+                      <label for="Password">Password:</label>
+                      <input class="password" id="Password" name="Password" type="password">
+                    </div>
+                    <div class="buttons"><input class="button-1 login-button" type="submit" value="Log in"></div>
+                  </form>
+                </div>""".formatted(error == null ? "" : "<div class=\"message-error\">" + esc(error) + "</div>");
+    }
+
+    static String customerInfo(String user) {
+        return accountPage("info", """
+                <div class="page-title"><h1>My account - Customer info</h1></div>
+                <div class="page-body"><span class="email">%s</span></div>""".formatted(esc(user)));
+    }
+
+    static String addresses(List<Address> addresses) {
+        String items = addresses.isEmpty()
+                ? "No addresses"
+                : addresses.stream().map(a -> """
+                        <div class="section address-item">
+                          <div class="title"><strong>%s %s</strong></div>
+                          <ul class="info">
+                            <li class="email">Email: %s</li>
+                            <li class="phone">Phone number: %s</li>
+                            <li class="address1">%s</li>
+                            <li class="city-state-zip">%s, %s %s</li>
+                            <li class="country">%s</li>
+                          </ul>
+                          <div class="buttons">
+                            <input type="button" class="button-2 delete-address-button" value="Delete"
+                                   onclick="if (confirm('Are you sure?')) { location.href = '/customer/addressdelete/%d'; }">
+                          </div>
+                        </div>""".formatted(esc(a.firstName()), esc(a.lastName()), esc(a.email()), esc(a.phone()),
+                        esc(a.address1()), esc(a.city()), esc(a.state()), esc(a.zip()), esc(a.country()), a.id()))
+                .collect(Collectors.joining("\n"));
+
+        return accountPage("addresses", """
+                <div class="page-title"><h1>My account - Addresses</h1></div>
+                <div class="page-body">
+                  <div class="address-list">
+                %s
+                  </div>
+                </div>""".formatted(items));
+    }
+
+    static String category(Category category) {
+        String body;
+        if (!category.subCategories().isEmpty()) {
+            body = category.subCategories().stream().map(sub -> """
+                    <div class="sub-category-item">
+                      <h2 class="title"><a href="/category/%s" title="Show products in category %s">%s</a></h2>
+                    </div>""".formatted(sub.slug(), esc(sub.name()), esc(sub.name())))
+                    .collect(Collectors.joining("\n", "<div class=\"sub-category-grid\">\n", "\n</div>"));
+        } else {
+            body = category.products().stream().map(p -> """
+                    <div class="item-box">
+                      <div class="product-item" data-productid="%d">
+                        <h2 class="product-title"><a href="/product/%s">%s</a></h2>
+                        <div class="prices"><span class="price actual-price">%s</span></div>
+                      </div>
+                    </div>""".formatted(p.id(), p.slug(), esc(p.name()), p.price()))
+                    .collect(Collectors.joining("\n", "<div class=\"product-grid\">\n", "\n</div>"));
+        }
+
+        return """
+                <div class="page category-page">
+                  <div class="page-title"><h1>%s</h1></div>
+                  <div class="page-body">
+                %s
+                  </div>
+                </div>""".formatted(esc(category.name()), body);
+    }
+
+    static String product(Product product) {
+        return """
+                <div class="page product-details-page">
+                  <div class="product-name"><h1 itemprop="name">%s</h1></div>
+                  <div class="product-price"><span>%s</span></div>
+                  <div class="add-to-cart">
+                    <input type="button" id="add-to-cart-button-%d" class="button-1 add-to-cart-button"
+                           value="Add to cart" onclick="Shop.addToCart(%d); return false;">
+                  </div>
+                </div>""".formatted(esc(product.name()), product.price(), product.id(), product.id());
+    }
+
+    static String cart(List<Product> items) {
+        String rows = items.isEmpty()
+                ? "<div class=\"order-summary-content\">Your Shopping Cart is empty!</div>"
+                : items.stream().map(p -> """
+                        <tr class="cart-item-row">
+                          <td class="product"><a href="/product/%s" class="product-name">%s</a></td>
+                          <td class="unit-price"><span class="product-unit-price">%s</span></td>
+                        </tr>""".formatted(p.slug(), esc(p.name()), p.price()))
+                .collect(Collectors.joining("\n", "<table class=\"cart\">\n", "\n</table>"));
+
+        return """
+                <div class="page shopping-cart-page">
+                  <div class="page-title"><h1>Shopping cart</h1></div>
+                  <div class="page-body">
+                %s
+                    <div class="cart-footer">
+                      <div class="shipping">
+                        <div class="estimate-shipping">
+                          <input type="button" name="estimateshipping" value="Estimate shipping"
+                                 class="button-2 estimate-shipping-button" onclick="Shop.estimateShipping()">
+                          <ul id="shipping-results" class="shipping-results"></ul>
+                        </div>
+                      </div>
+                      <div class="totals">
+                        <div class="terms-of-service">
+                          <input id="termsofservice" type="checkbox" name="termsofservice">
+                          <label for="termsofservice">I agree with the terms of service and I adhere to them unconditionally</label>
+                        </div>
+                        <div class="checkout-buttons" style="display:inline-block">
+                          <button type="button" id="checkout" name="checkout" class="button-1 checkout-button"
+                                  onclick="Shop.checkout()">Checkout</button>
+                        </div>
+                      </div>
+                    </div>
+                  </div>
+                </div>""".formatted(rows);
+    }
+
+    static String shippingOptions() {
+        return """
+                <li><strong>Ground (0.00)</strong></li>
+                <li><strong>Next Day Air (0.00)</strong></li>
+                <li><strong>2nd Day Air (0.00)</strong></li>""";
+    }
+
+    static String stateOptions(Country country) {
+        if (country == null || country.states().isEmpty()) {
+            return "<option value=\"0\">Other (Non US)</option>";
+        }
+        StringBuilder options = new StringBuilder();
+        for (int i = 0; i < country.states().size(); i++) {
+            options.append("<option value=\"").append(country.id() * 100 + i + 1).append("\">")
+                    .append(esc(country.states().get(i))).append("</option>");
+        }
+        return options.toString();
+    }
+
+    static String checkout(String user) {
+        String countries = ShopCatalog.COUNTRIES.stream()
+                .map(c -> "<option value=\"%d\">%s</option>".formatted(c.id(), esc(c.name())))
+                .collect(Collectors.joining("\n"));
+
+        return """
+                <script>%s</script>
+                <div class="page checkout-page">
+                  <div class="page-title"><h1>Checkout</h1></div>
+                  <div class="page-body checkout-data">
+                    <div id="checkout-error" class="message-error" style="display:none"></div>
+                    <ol class="opc" id="checkout-steps">
+                      <li id="opc-billing" class="tab-section allow active">
+                        <div class="step-title"><h2>Billing address</h2></div>
+                        <div id="checkout-step-billing" class="step a-item">
+                          <form id="co-billing-form">
+                            <input id="BillingNewAddress_FirstName" name="FirstName" type="text">
+                            <input id="BillingNewAddress_LastName" name="LastName" type="text">
+                            <input id="BillingNewAddress_Email" name="Email" type="text" value="%s">
+                            <select id="BillingNewAddress_CountryId" name="CountryId" onchange="Shop.loadStates(this.value)">
+                              <option value="0">Select country</option>
+                %s
+                            </select>
+                            <select id="BillingNewAddress_StateProvinceId" name="StateProvinceId">
+                              <option value="0">Other (Non US)</option>
+                            </select>
+                            <input id="BillingNewAddress_City" name="City" type="text">
+                            <input id="BillingNewAddress_Address1" name="Address1" type="text">
+                            <input id="BillingNewAddress_ZipPostalCode" name="ZipPostalCode" type="text">
+                            <input id="BillingNewAddress_PhoneNumber" name="PhoneNumber" type="text">
+                          </form>
+                          <div class="buttons">
+                            <input type="button" class="button-1 new-address-next-step-button" value="Continue" onclick="Billing.save()">
+                          </div>
+                        </div>
+                      </li>
+                      <li id="opc-shipping" class="tab-section">
+                        <div class="step-title"><h2>Shipping address</h2></div>
+                        <div id="checkout-step-shipping" class="step a-item" style="display:none">
+                          <p>Ship to the billing address</p>
+                          <input type="button" class="button-1 new-address-next-step-button" value="Continue" onclick="Shipping.save()">
+                        </div>
+                      </li>
+                      <li id="opc-shipping-method" class="tab-section">
+                        <div class="step-title"><h2>Shipping method</h2></div>
+                        <div id="checkout-step-shipping-method" class="step a-item" style="display:none">
+                          <form id="co-shipping-method-form">
+                            <input id="shippingoption_0" type="radio" name="shippingoption" value="Ground" checked>
+                            <label for="shippingoption_0">Ground (0.00)</label>
+                          </form>
+                          <input type="button" class="button-1 shipping-method-next-step-button" value="Continue" onclick="ShippingMethod.save()">
+                        </div>
+                      </li>
+                      <li id="opc-payment-method" class="tab-section">
+                        <div class="step-title"><h2>Payment method</h2></div>
+                        <div id="checkout-step-payment-method" class="step a-item" style="display:none">
+                          <form id="co-payment-method-form">
+                            <input id="paymentmethod_0" type="radio" name="paymentmethod" value="Payments.CashOnDelivery" checked>
+                            <label for="paymentmethod_0">Cash On Delivery (COD)</label>
+                          </form>
+                          <input type="button" class="button-1 payment-method-next-step-button" value="Continue" onclick="PaymentMethod.save()">
+                        </div>
+                      </li>
+                      <li id="opc-payment-info" class="tab-section">
+                        <div class="step-title"><h2>Payment information</h2></div>
+                        <div id="checkout-step-payment-info" class="step a-item" style="display:none">
+                          <p>You will pay by COD</p>
+                          <input type="button" class="button-1 payment-info-next-step-button" value="Continue" onclick="PaymentInfo.save()">
+                        </div>
+                      </li>
+                      <li id="opc-confirm-order" class="tab-section">
+                        <div class="step-title"><h2>Confirm order</h2></div>
+                        <div id="checkout-step-confirm-order" class="step a-item" style="display:none">
+                          <input type="button" class="button-1 confirm-order-next-step-button" value="Confirm" onclick="ConfirmOrder.save()">
+                        </div>
+                      </li>
+                    </ol>
+                  </div>
+                </div>""".formatted(CHECKOUT_SCRIPT, esc(user), countries);
+    }
+
+    static String completed(Order order) {
+        return """
+                <div class="page checkout-page">
+                  <div class="page-title"><h1>Thank you</h1></div>
+                  <div class="page-body checkout-data">
+                    <div class="section order-completed">
+                      <div class="title"><strong>Your order has been successfully processed!</strong></div>
+                      <ul class="details">
+                        <li>Order number: %d</li>
+                        <li><a href="/orderdetails/%d">Click here for order details.</a></li>
+                      </ul>
+                    </div>
+                  </div>
+                </div>""".formatted(order.id(), order.id());
+    }
+
+    static String orderDetails(Order order) {
+        String items = order.items().stream()
+                .map(p -> "<tr><td class=\"a-left name\">%s</td><td class=\"a-right price\">%s</td></tr>"
+                        .formatted(esc(p.name()), p.price()))
+                .collect(Collectors.joining("\n"));
+
+        return """
+                <div class="page order-details-page">
+                  <div class="page-title"><h1>Order information</h1></div>
+                  <div class="page-body">
+                    <div class="order-overview">
+                      <span>Order Date: %s</span>
+                      <span>Order Status: Pending</span>
+                    </div>
+                    <div class="order-number"><strong>Order #%d</strong></div>
+                    <table class="data-table">
+                %s
+                    </table>
+                  </div>
+                </div>""".formatted(ORDER_DATE.format(order.date()), order.id(), items);
+    }
+
+    static String notFound() {
+        return """
+                <div class="page page-not-found">
+                  <div class="page-title"><h1>Page not found</h1></div>
+                </div>""";
+    }
+
+    // ─── Helpers ───────────────────────────────────────────────────────
+
+    private static String accountPage(String active, String content) {
+        return """
+                <div class="side-2">
+                  <div class="block block-account-navigation">
+                    <ul class="list">
+                      <li><a href="/customer/info" class="%s">Customer info</a></li>
+                      <li><a href="/customer/addresses" class="%s">Addresses</a></li>
+                      <li><a href="/customer/orders" class="inactive">Orders</a></li>
+                    </ul>
+                  </div>
+                </div>
+                <div class="center-2">
+                  <div class="page account-page">
+                %s
+                  </div>
+                </div>""".formatted(cls(active, "info"), cls(active, "addresses"), content);
+    }
+
+    private static String cls(String active, String item) {
+        return active.equals(item) ? "active" : "inactive";
+    }
+
+    static String esc(String value) {
+        if (value == null) return "";
+        StringBuilder sb = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.AutoPOC.utils;
+
+import org.openqa.selenium.Cookie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of authenticated browser cookies, keyed by site origin + username.
+ * Lets later sessions replay a previous login instead of driving the login form again.
+ * Entries expire after {@code auth.session.ttl.seconds}.
+ */
+public class AuthSessionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthSessionCache.class);
+
+    private static final boolean ENABLED = ConfigReader.getBoolean("auth.session.cache.enabled", true);
+    private static final long TTL_MS = ConfigReader.getDuration(
+            "auth.session.ttl.seconds", ChronoUnit.SECONDS, Duration.ofMinutes(30)).toMillis();
+
+    private static final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+
+    private record Entry(Set<Cookie> cookies, long capturedAt) {
+    }
+
+    /**
+     * @return {@code true} if {@code auth.session.cache.enabled=true}
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns the cookies captured for the given site and user, if present and not expired.
+     *
+     * @param origin   Site origin, e.g. https://demowebshop.tricentis.com
+     * @param username Login name
+     * @return Cookies to replay, or {@code null}
+     */
+    public static Set<Cookie> get(String origin, String username) {
+        if (!ENABLED) return null;
+
+        String key = key(origin, username);
+        Entry entry = sessions.get(key);
+        if (entry == null) return null;
+
+        if (System.currentTimeMillis() - entry.capturedAt() > TTL_MS) {
+            sessions.remove(key, entry);
+            logger.info("Cached session for {} expired", username);
+            return null;
+        }
+        return entry.cookies();
+    }
+
+    /**
+     * Stores the cookies of a freshly authenticated session.
+     *
+     * @param origin   Site origin
+     * @param username Login name
+     * @param cookies  Cookies captured right after a successful login
+     */
+    public static void put(String origin, String username, Set<Cookie> cookies) {
+        if (!ENABLED || cookies.isEmpty()) return;
+        sessions.put(key(origin, username), new Entry(Set.copyOf(cookies), System.currentTimeMillis()));
+        logger.info("Captured {} session cookie(s) for {}", cookies.size(), username);
+    }
+
+    /**
+     * Drops the cached session, e.g. after a replay did not authenticate.
+     *
+     * @param origin   Site origin
+     * @param username Login name
+     */
+    public static void invalidate(String origin, String username) {
+        sessions.remove(key(origin, username));
+    }
+
+    private static String key(String origin, String username) {
+        return origin.toLowerCase(Locale.ROOT) + "|" + username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,20 +1,77 @@
 package com.AutoPOC.utils;
 
-import java.io.FileInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.IOException;
-import java.util.Properties;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Reads config.properties into an immutable snapshot, parsed once: values are trimmed and
+ * pre-converted to booleans, numbers, durations and comma-separated lists up front.
+ * <p>
+ * Lookup order per key: JVM system property (-Dkey=value), environment variable
+ * ({@code AUTOPOC_} + upper case key, non-alphanumerics as '_', e.g. headless.mode → AUTOPOC_HEADLESS_MODE), then the file.
+ * The prefix keeps common variables such as {@code BROWSER} from overriding keys by accident.
+ * Overrides are looked up when a key is first read, so they also apply to keys that only have a default
+ * in code; the resolved value is kept until the next reload.
+ * The file is taken from -Dconfig.file, else config.properties on the classpath, else
+ * src/test/resources/config.properties. With {@code config.watch.enabled=true} the file is watched
+ * and the snapshot swapped atomically on change; values already copied into constants keep their
+ * startup value.
+ */
 public class ConfigReader {
-    private static final Properties properties = new Properties();
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigReader.class);
+
+    private static final String RESOURCE = "config.properties";
+    private static final String ENV_PREFIX = "AUTOPOC_";
+    private static final Path FALLBACK_FILE = Paths.get("src/test/resources/config.properties");
+
+    private static final Pattern DURATION = Pattern.compile("(\\d+)\\s*(ms|s|m|h|d)", Pattern.CASE_INSENSITIVE);
+    // Browser arguments may contain commas themselves (--window-size=1920,1080), so they split only before a flag
+    private static final Pattern ARG_SEPARATOR = Pattern.compile(",(?=\\s*-)");
+
+    private static final AtomicReference<Snapshot> snapshot = new AtomicReference<>(load());
 
     static {
-        try (FileInputStream fis = new FileInputStream("src/test/resources/config.properties")) {
-            properties.load(fis);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load config.properties file", e);
+        if (getBoolean("config.watch.enabled", false)) {
+            watch();
+        }
+    }
+
+    /**
+     * One pre-parsed configuration value.
+     */
+    private record Value(String text, List<String> list, List<String> args,
+                         Boolean bool, Long number, Double decimal, Duration duration) {
+
+        static Value of(String raw) {
+            String text = raw.trim();
+            return new Value(text, split(text, ","), split(text, ARG_SEPARATOR.pattern()),
+                    parseBoolean(text), parseLong(text), parseDouble(text), parseDuration(text));
         }
     }
 
+    /**
+     * File values plus the resolved value (override or file) of every key read so far.
+     */
+    private record Snapshot(Map<String, Value> values, String source, Map<String, Optional<Value>> resolved) {
+    }
+
+    // ========================= STRING ACCESS ========================= //
+
     /**
      * Retrieves a property value. If the key is missing, it returns an empty string.
      *
@@ -22,7 +79,7 @@ public class ConfigReader {
      * @return Property value or empty string if key is missing.
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key, "").trim();
+        return getProperty(key, "");
     }
 
     /**
@@ -33,6 +90,248 @@ public class ConfigReader {
      * @return Property value or default value.
      */
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue).trim();
+        Value value = value(key);
+        return value != null ? value.text() : defaultValue.trim();
+    }
+
+    // ========================= TYPED ACCESS ========================= //
+
+    /**
+     * @return {@code true}/{@code false} for the key, or the default if missing or blank
+     * @throws IllegalArgumentException if the value is not true/false
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        Value value = present(key);
+        if (value == null) return defaultValue;
+        if (value.bool() == null) throw invalid(key, value, "a boolean");
+        return value.bool();
+    }
+
+    /**
+     * @return Integer value for the key, or the default if missing or blank
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    public static int getInt(String key, int defaultValue) {
+        return Math.toIntExact(getLong(key, defaultValue));
+    }
+
+    /**
+     * @return Long value for the key, or the default if missing or blank
+     * @throws IllegalArgumentException if the value is not an integer
+     */
+    public static long getLong(String key, long defaultValue) {
+        Value value = present(key);
+        if (value == null) return defaultValue;
+        if (value.number() == null) throw invalid(key, value, "an integer");
+        return value.number();
+    }
+
+    /**
+     * @return Decimal value for the key, or the default if missing or blank
+     * @throws IllegalArgumentException if the value is not a number
+     */
+    public static double getDouble(String key, double defaultValue) {
+        Value value = present(key);
+        if (value == null) return defaultValue;
+        if (value.decimal() == null) throw invalid(key, value, "a number");
+        return value.decimal();
+    }
+
+    /**
+     * Reads a duration written as a plain number in {@code unit}, with a suffix (500ms, 30s, 5m, 1h, 1d)
+     * or in ISO-8601 form (PT30S).
+     *
+     * @param unit         Unit of plain numbers, e.g. {@link ChronoUnit#SECONDS} for *.seconds keys
+     * @param defaultValue Returned if the key is missing or blank
+     * @throws IllegalArgumentException if the value is not a duration
+     */
+    public static Duration getDuration(String key, ChronoUnit unit, Duration defaultValue) {
+        Value value = present(key);
+        if (value == null) return defaultValue;
+        if (value.number() != null) return Duration.of(value.number(), unit);
+        if (value.duration() == null) throw invalid(key, value, "a duration");
+        return value.duration();
+    }
+
+    /**
+     * @return Comma-separated values of the key, trimmed and without blanks; empty if missing
+     */
+    public static List<String> getList(String key) {
+        Value value = value(key);
+        return value != null ? value.list() : List.of();
+    }
+
+    /**
+     * Splits a browser argument list. Commas inside an argument value (--window-size=1920,1080) are kept.
+     *
+     * @return Arguments of the key, trimmed and without blanks; empty if missing
+     */
+    public static List<String> getArgs(String key) {
+        Value value = value(key);
+        return value != null ? value.args() : List.of();
+    }
+
+    // ========================= LOADING ========================= //
+
+    /**
+     * Re-reads the file and swaps the snapshot; system properties and environment are looked up again on the next read.
+     */
+    public static void reload() {
+        snapshot.set(load());
+        logger.info("Configuration reloaded from {}", snapshot.get().source());
+    }
+
+    private static Value value(String key) {
+        Snapshot current = snapshot.get();
+        return current.resolved().computeIfAbsent(key, k -> Optional.ofNullable(resolve(current, k))).orElse(null);
+    }
+
+    private static Value resolve(Snapshot current, String key) {
+        String override = System.getProperty(key);
+        if (override == null) override = System.getenv(envName(key));
+        return override != null ? Value.of(override) : current.values().get(key);
+    }
+
+    private static Value present(String key) {
+        Value value = value(key);
+        return value == null || value.text().isEmpty() ? null : value;
+    }
+
+    private static Snapshot load() {
+        Properties file = new Properties();
+        String source = readInto(file);
+
+        Map<String, Value> values = new HashMap<>();
+        for (String key : file.stringPropertyNames()) {
+            values.put(key, Value.of(file.getProperty(key)));
+        }
+        return new Snapshot(Map.copyOf(values), source, new ConcurrentHashMap<>());
+    }
+
+    private static String readInto(Properties properties) {
+        try {
+            String explicit = System.getProperty("config.file");
+            if (explicit != null && !explicit.isBlank()) {
+                return readFile(Paths.get(explicit.trim()), properties);
+            }
+
+            URL resource = ConfigReader.class.getClassLoader().getResource(RESOURCE);
+            if (resource != null) {
+                try (InputStream in = resource.openStream()) {
+                    properties.load(in);
+                }
+                return resource.toString();
+            }
+            return readFile(FALLBACK_FILE, properties);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load config.properties file", e);
+        }
+    }
+
+    private static String readFile(Path file, Properties properties) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return file.toAbsolutePath().toString();
+    }
+
+    /**
+     * Watches the loaded file and reloads on change. Only possible when it is a plain file, not inside a jar.
+     */
+    private static void watch() {
+        Path file;
+        try {
+            String source = snapshot.get().source();
+            file = source.startsWith("file:") ? Paths.get(new URL(source).toURI()) : Paths.get(source);
+        } catch (IOException | URISyntaxException | InvalidPathException e) {
+            logger.warn("Config source cannot be watched: {}", snapshot.get().source());
+            return;
+        }
+
+        Thread watcher = new Thread(() -> {
+            try (WatchService service = FileSystems.getDefault().newWatchService()) {
+                file.getParent().register(service, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+                while (!Thread.currentThread().isInterrupted()) {
+                    WatchKey key = service.take();
+                    boolean changed = key.pollEvents().stream()
+                            .anyMatch(e -> file.getFileName().equals(e.context()));
+                    key.reset();
+                    if (changed) {
+                        Thread.sleep(100); // let the editor finish writing
+                        try {
+                            reload();
+                        } catch (RuntimeException e) {
+                            logger.warn("Keeping previous configuration: {}", e.getMessage());
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Config file watch stopped: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "config-watch");
+        watcher.setDaemon(true);
+        watcher.start();
+        logger.info("Watching {} for configuration changes", file);
+    }
+
+    // ========================= PARSING ========================= //
+
+    private static String envName(String key) {
+        return ENV_PREFIX + key.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "_");
+    }
+
+    private static List<String> split(String text, String separator) {
+        if (text.isEmpty()) return List.of();
+        return Arrays.stream(text.split(separator)).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    private static Boolean parseBoolean(String text) {
+        if (text.equalsIgnoreCase("true")) return Boolean.TRUE;
+        if (text.equalsIgnoreCase("false")) return Boolean.FALSE;
+        return null;
+    }
+
+    private static Long parseLong(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Double parseDouble(String text) {
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Duration parseDuration(String text) {
+        Matcher m = DURATION.matcher(text);
+        if (m.matches()) {
+            long amount = Long.parseLong(m.group(1));
+            return switch (m.group(2).toLowerCase(Locale.ROOT)) {
+                case "ms" -> Duration.ofMillis(amount);
+                case "s" -> Duration.ofSeconds(amount);
+                case "m" -> Duration.ofMinutes(amount);
+                case "h" -> Duration.ofHours(amount);
+                default -> Duration.ofDays(amount);
+            };
+        }
+        if (text.regionMatches(true, 0, "P", 0, 1)) {
+            try {
+                return Duration.parse(text);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static IllegalArgumentException invalid(String key, Value value, String expected) {
+        return new IllegalArgumentException("Config key '" + key + "' is not " + expected + ": " + value.text());
     }
 }
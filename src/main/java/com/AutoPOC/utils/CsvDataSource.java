@@ -0,0 +1,229 @@
+package com.AutoPOC.utils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * {@link TestDataSource} backed by a CSV file (RFC 4180: quoted fields may contain commas, quotes and line breaks).
+ * The first record holds the headers; values are trimmed like xlsx cells. New files are started with
+ * the headers given at construction, and written rows are aligned to the file's header line.
+ */
+public class CsvDataSource extends TextDataSource {
+
+    private final List<String> newFileHeaders;
+    private volatile List<String> writeHeaders;
+
+    /**
+     * @param file           CSV file
+     * @param sheetName      Logical sheet name, used for caching and diagnostics
+     * @param newFileHeaders Header line written when the file does not exist yet
+     */
+    public CsvDataSource(Path file, String sheetName, List<String> newFileHeaders) {
+        super(file, sheetName);
+        this.newFileHeaders = List.copyOf(newFileHeaders);
+    }
+
+    @Override
+    protected String format() {
+        return "csv";
+    }
+
+    @Override
+    protected ParsedSheet parse(File source, String name, int headerRowIndex) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(source.toPath(), StandardCharsets.UTF_8)) {
+            String[] headers = readRecord(reader);
+            if (headers == null) throw new IllegalArgumentException("Header line missing in " + source);
+
+            DataTable.Builder table = DataTable.builder(Arrays.asList(headers));
+            for (String[] values; (values = readRecord(reader)) != null; ) {
+                table.addRow(values);
+            }
+            return new ParsedSheet(name, table.build());
+        }
+    }
+
+    @Override
+    protected Iterator<Map<String, String>> rows(BufferedReader reader) throws IOException {
+        String[] headers = readRecord(reader);
+        if (headers == null) return Collections.emptyIterator();
+
+        return new Iterator<>() {
+            private String[] next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Map<String, String> next() {
+                if (next == null) throw new NoSuchElementException();
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int c = 0; c < headers.length; c++) {
+                    row.put(headers[c], c < next.length ? next[c] : "");
+                }
+                next = advance();
+                return Collections.unmodifiableMap(row);
+            }
+
+            private String[] advance() {
+                try {
+                    return readRecord(reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error reading " + file, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Picks the requested fields straight from each record, without building row maps.
+     */
+    @Override
+    protected Iterator<String[]> columns(BufferedReader reader, List<String> columns) throws IOException {
+        String[] headers = readRecord(reader);
+        if (headers == null) return Collections.emptyIterator();
+        int[] indexes = columns.stream().mapToInt(Arrays.asList(headers)::indexOf).toArray();
+
+        return new Iterator<>() {
+            private String[] next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public String[] next() {
+                if (next == null) throw new NoSuchElementException();
+                String[] values = project(next, indexes);
+                next = advance();
+                return values;
+            }
+
+            private String[] advance() {
+                try {
+                    return readRecord(reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error reading " + file, e);
+                }
+            }
+        };
+    }
+
+    @Override
+    protected String prologue() {
+        return String.join(",", newFileHeaders.stream().map(CsvDataSource::quote).toList()) + System.lineSeparator();
+    }
+
+    /**
+     * Lays the values out in the file's header order; a "Row" column receives the row number unless a value
+     * is given for it. Values without a matching header are rejected.
+     */
+    @Override
+    protected String line(int rowIndex, Map<String, String> values) {
+        List<String> headers = writeHeaders();
+        for (String header : values.keySet()) {
+            if (!headers.contains(header)) {
+                throw new IllegalArgumentException("No column '" + header + "' in " + file + " " + headers);
+            }
+        }
+
+        StringJoiner line = new StringJoiner(",");
+        for (String header : headers) {
+            String value = values.get(header);
+            if (value == null && "Row".equals(header)) value = String.valueOf(rowIndex);
+            line.add(quote(value == null ? "" : value));
+        }
+        return line.toString();
+    }
+
+    private List<String> writeHeaders() {
+        List<String> headers = writeHeaders;
+        if (headers == null) {
+            headers = newFileHeaders;
+            if (Files.exists(file)) {
+                // Only the header line is needed, not a parse of every row written so far
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    String[] existing = readRecord(reader);
+                    if (existing != null) headers = List.of(existing);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error reading " + file, e);
+                }
+            }
+            writeHeaders = headers;
+        }
+        return headers;
+    }
+
+    /**
+     * Reads one record, joining physical lines while a quoted field is open.
+     *
+     * @return Trimmed field values, or {@code null} at end of file; blank lines are skipped
+     */
+    static String[] readRecord(BufferedReader reader) throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) return null;
+        } while (line.isBlank());
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char ch = line.charAt(i);
+                if (quoted) {
+                    if (ch != '"') {
+                        field.append(ch);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (ch == '"') {
+                    quoted = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString().trim());
+                    field.setLength(0);
+                } else {
+                    field.append(ch);
+                }
+            }
+            if (!quoted) break;
+
+            String next = reader.readLine();
+            if (next == null) break; // unterminated quote: keep what was read
+            field.append('\n');
+            line = next;
+        }
+        fields.add(field.toString().trim());
+        return fields.toArray(String[]::new);
+    }
+
+    /**
+     * @return Values at the given indexes; missing columns and short records yield an empty string
+     */
+    private static String[] project(String[] values, int[] indexes) {
+        String[] projected = new String[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            int c = indexes[i];
+            projected[i] = c >= 0 && c < values.length ? values[c] : "";
+        }
+        return projected;
+    }
+
+    private static String quote(String value) {
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
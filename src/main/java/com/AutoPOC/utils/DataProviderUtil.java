@@ -0,0 +1,103 @@
+package com.AutoPOC.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Lazy TestNG data providers over a {@link TestDataSource}.
+ * Only the key column and the filtered columns are read, and rows are handed to TestNG as they are read,
+ * so the first test starts before the sheet has been read to the end. The returned iterators
+ * are consumed by TestNG from a single thread and also work with {@code parallel = true}.
+ * Streams still open when TestNG stops pulling early are closed by {@link #closeAll()} at suite end.
+ */
+public class DataProviderUtil {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataProviderUtil.class);
+
+    // Streams of providers that have not been read to the end yet
+    private static final Set<Stream<?>> openStreams = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Streams the non-blank values of a key column for the selected rows.
+     * The underlying stream is closed once the iterator is exhausted, or by {@link #closeAll()}.
+     *
+     * @param source    Data source to read
+     * @param keyColumn Header of the key column, e.g. "Input ID"
+     * @param selection Row filters and shard
+     * @return Iterator of {@code {key}} arrays
+     */
+    public static Iterator<Object[]> keys(TestDataSource source, String keyColumn, RowSelection selection) {
+        List<String> columns = new ArrayList<>();
+        columns.add(keyColumn);
+        columns.addAll(selection.filters().keySet());
+
+        Stream<String[]> rows = source.streamColumns(columns);
+        openStreams.add(rows);
+        Iterator<String[]> it = rows.iterator();
+
+        return new Iterator<>() {
+            private Object[] next;
+            private long matched;
+            private int supplied;
+            private boolean closed;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && !closed) {
+                    if (!it.hasNext()) {
+                        close();
+                        break;
+                    }
+                    String[] values = it.next();
+                    if (values[0].isBlank() || !accepts(values)) continue;
+                    if (selection.inShard(matched++)) next = new Object[]{values[0]};
+                }
+                return next != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Object[] row = next;
+                next = null;
+                supplied++;
+                return row;
+            }
+
+            private boolean accepts(String[] values) {
+                for (int i = 1; i < columns.size(); i++) {
+                    if (!selection.accepts(columns.get(i), values[i])) return false;
+                }
+                return true;
+            }
+
+            private void close() {
+                closed = true;
+                openStreams.remove(rows);
+                rows.close();
+                logger.info("Supplied {} of {} matching '{}' rows (shard {} of {})",
+                        supplied, matched, keyColumn, selection.shardIndex() + 1, selection.shardCount());
+            }
+        };
+    }
+
+    /**
+     * Closes the streams of providers that were not read to the end, e.g. after a failed or aborted run.
+     * Their readers are released and streaming xlsx producer threads stop.
+     */
+    public static void closeAll() {
+        for (Stream<?> rows : openStreams) {
+            if (!openStreams.remove(rows)) continue;
+            try {
+                rows.close();
+            } catch (RuntimeException e) {
+                logger.warn("Error closing data provider stream: {}", e.getMessage());
+            }
+        }
+        logger.debug("Data provider streams closed");
+    }
+}
@@ -0,0 +1,381 @@
+package com.AutoPOC.utils;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Compact, immutable column store for sheet data.
+ * Header names are interned once per table. Each column keeps one instance per distinct value: columns with
+ * repeating values (country, browser, status...) are stored as an {@code int[]} of codes into a value
+ * dictionary, mostly-unique columns (IDs, names) as a plain {@code String[]}. Rows are handed out as
+ * lightweight read-only {@link Map} views over the columns instead of one map per row.
+ * <p>
+ * A table can be written as a binary snapshot and read back from a (memory-mapped) buffer: code arrays and
+ * the string blobs of plain columns stay in the buffer, only headers and dictionaries are decoded on open.
+ */
+public final class DataTable {
+
+    // A column is dictionary-encoded when it has at most this share of distinct values
+    private static final double DICTIONARY_MAX_RATIO = 0.5;
+
+    private static final int SNAPSHOT_MAGIC = 0x58534E50; // "XSNP"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final byte DICTIONARY_COLUMN = 0;
+    private static final byte PLAIN_COLUMN = 1;
+
+    private final String[] headers;
+    private final Map<String, Integer> columnIndex;
+    // Map view order: first occurrence of each header, pointing at its last column (as LinkedHashMap.put did)
+    private final int[] viewColumns;
+    private final Column[] columns;
+    private final int rowCount;
+
+    private DataTable(String[] headers, Column[] columns, int rowCount) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rowCount = rowCount;
+
+        Map<String, Integer> index = new LinkedHashMap<>();
+        for (int c = 0; c < headers.length; c++) {
+            index.put(headers[c], c);
+        }
+        this.columnIndex = index;
+        this.viewColumns = index.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Column storage: codes into a dictionary, the values themselves, or UTF-8 values in a snapshot buffer.
+     */
+    private sealed interface Column permits Dictionary, Plain, EncodedPlain {
+        String get(int row);
+    }
+
+    // Codes are an int[] wrapped on the heap, or a view into a snapshot buffer
+    private record Dictionary(String[] values, IntBuffer codes) implements Column {
+        @Override
+        public String get(int row) {
+            return values[codes.get(row)];
+        }
+    }
+
+    private record Plain(String[] values) implements Column {
+        @Override
+        public String get(int row) {
+            return values[row];
+        }
+    }
+
+    // Row r is blob[offsets[r], offsets[r + 1]); decoded on access
+    private record EncodedPlain(ByteBuffer blob, IntBuffer offsets) implements Column {
+        @Override
+        public String get(int row) {
+            int start = offsets.get(row);
+            byte[] bytes = new byte[offsets.get(row + 1) - start];
+            blob.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * @param headers Trimmed header names in column order
+     * @return Builder that accepts rows of {@code headers.size()} values
+     */
+    public static Builder builder(List<String> headers) {
+        return new Builder(headers);
+    }
+
+    /**
+     * @return Header names in column order
+     */
+    public List<String> headers() {
+        return List.of(headers);
+    }
+
+    /**
+     * @return Number of data rows
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * @return Number of columns
+     */
+    public int width() {
+        return headers.length;
+    }
+
+    /**
+     * Returns the value at the given row and column, or an empty string if the column lies outside the table.
+     *
+     * @param row Row index (zero-based)
+     * @param col Column index (zero-based)
+     * @return Cell value
+     */
+    public String get(int row, int col) {
+        Objects.checkIndex(row, rowCount);
+        return col < columns.length ? columns[col].get(row) : "";
+    }
+
+    /**
+     * @param row Row index (zero-based)
+     * @return Read-only header-to-value view of the row
+     */
+    public Map<String, String> row(int row) {
+        Objects.checkIndex(row, rowCount);
+        return new RowView(row);
+    }
+
+    /**
+     * @return Read-only list of row views; views are created on access
+     */
+    public List<Map<String, String>> rows() {
+        return new AbstractList<>() {
+            @Override
+            public Map<String, String> get(int index) {
+                return row(index);
+            }
+
+            @Override
+            public int size() {
+                return rowCount;
+            }
+        };
+    }
+
+    // ========================= BINARY SNAPSHOT ========================= //
+
+    /**
+     * Writes the table in the snapshot format read by {@link #readFrom(ByteBuffer)}.
+     *
+     * @param out Destination stream
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeInt(rowCount);
+        out.writeInt(headers.length);
+        for (String header : headers) {
+            writeString(out, header);
+        }
+
+        for (Column column : columns) {
+            if (column instanceof Dictionary dictionary) {
+                out.writeByte(DICTIONARY_COLUMN);
+                out.writeInt(dictionary.values().length);
+                for (String value : dictionary.values()) {
+                    writeString(out, value);
+                }
+                for (int r = 0; r < rowCount; r++) {
+                    out.writeInt(dictionary.codes().get(r));
+                }
+            } else {
+                byte[][] encoded = new byte[rowCount][];
+                out.writeByte(PLAIN_COLUMN);
+                int offset = 0;
+                out.writeInt(offset);
+                for (int r = 0; r < rowCount; r++) {
+                    encoded[r] = column.get(r).getBytes(StandardCharsets.UTF_8);
+                    offset += encoded[r].length;
+                    out.writeInt(offset);
+                }
+                for (byte[] bytes : encoded) {
+                    out.write(bytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens a snapshot written by {@link #writeTo(DataOutputStream)}. The table keeps referencing the buffer.
+     *
+     * @param buffer Snapshot contents, e.g. a memory-mapped file
+     * @return Table backed by the buffer
+     * @throws IllegalArgumentException if the buffer is not a snapshot of the current format
+     */
+    static DataTable readFrom(ByteBuffer buffer) {
+        if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+            throw new IllegalArgumentException("Not a sheet snapshot of format version " + SNAPSHOT_VERSION);
+        }
+        int rows = buffer.getInt();
+        String[] headers = new String[buffer.getInt()];
+        for (int c = 0; c < headers.length; c++) {
+            headers[c] = readString(buffer).intern();
+        }
+
+        Column[] columns = new Column[headers.length];
+        for (int c = 0; c < columns.length; c++) {
+            byte kind = buffer.get();
+            if (kind == DICTIONARY_COLUMN) {
+                String[] values = new String[buffer.getInt()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = readString(buffer);
+                }
+                columns[c] = new Dictionary(values, slice(buffer, rows * Integer.BYTES).asIntBuffer());
+            } else if (kind == PLAIN_COLUMN) {
+                IntBuffer offsets = slice(buffer, (rows + 1) * Integer.BYTES).asIntBuffer();
+                columns[c] = new EncodedPlain(slice(buffer, offsets.get(rows)), offsets);
+            } else {
+                throw new IllegalArgumentException("Unknown column kind " + kind + " in sheet snapshot");
+            }
+        }
+        return new DataTable(headers, columns, rows);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the next {@code length} bytes as an independent big-endian view and skips past them.
+     */
+    private static ByteBuffer slice(ByteBuffer buffer, int length) {
+        ByteBuffer slice = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    /**
+     * Map view of one row, backed by the table's columns.
+     */
+    private final class RowView extends AbstractMap<String, String> {
+
+        private final int row;
+
+        RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String get(Object key) {
+            Integer col = columnIndex.get(key);
+            return col == null ? null : columns[col].get(row);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return columnIndex.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return viewColumns.length;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int i;
+
+                        @Override
+                        public boolean hasNext() {
+                            return i < viewColumns.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            int col = viewColumns[i++];
+                            return new SimpleImmutableEntry<>(headers[col], columns[col].get(row));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return viewColumns.length;
+                }
+            };
+        }
+    }
+
+    /**
+     * Collects rows column by column, deduplicating values as they arrive.
+     * Not thread-safe; the built table is immutable.
+     */
+    public static final class Builder {
+
+        private final String[] headers;
+        private final List<Map<String, Integer>> dictionaries = new ArrayList<>();
+        private final List<List<String>> values = new ArrayList<>();
+        private int[][] codes;
+        private int capacity = 16;
+        private int rowCount;
+
+        private Builder(List<String> headers) {
+            this.headers = headers.stream().map(String::intern).toArray(String[]::new);
+            this.codes = new int[this.headers.length][capacity];
+            for (int c = 0; c < this.headers.length; c++) {
+                dictionaries.add(new HashMap<>());
+                values.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * Appends one row. Missing trailing values are stored as empty strings, extra values are ignored.
+         *
+         * @param row Trimmed cell values in column order
+         * @return this builder
+         */
+        public Builder addRow(String[] row) {
+            if (rowCount == capacity) grow();
+            for (int c = 0; c < headers.length; c++) {
+                String value = c < row.length && row[c] != null ? row[c] : "";
+                List<String> dictionary = values.get(c);
+                codes[c][rowCount] = dictionaries.get(c).computeIfAbsent(value, v -> {
+                    dictionary.add(v);
+                    return dictionary.size() - 1;
+                });
+            }
+            rowCount++;
+            return this;
+        }
+
+        /**
+         * @return Immutable table; the builder must not be used afterwards
+         */
+        public DataTable build() {
+            Column[] columns = new Column[headers.length];
+            for (int c = 0; c < headers.length; c++) {
+                String[] dictionary = values.get(c).toArray(String[]::new);
+                int[] columnCodes = Arrays.copyOf(codes[c], rowCount);
+
+                if (dictionary.length <= Math.max(1, rowCount * DICTIONARY_MAX_RATIO)) {
+                    columns[c] = new Dictionary(dictionary, IntBuffer.wrap(columnCodes));
+                } else {
+                    String[] plain = new String[rowCount];
+                    for (int r = 0; r < rowCount; r++) {
+                        plain[r] = dictionary[columnCodes[r]];
+                    }
+                    columns[c] = new Plain(plain);
+                }
+            }
+            dictionaries.clear();
+            values.clear();
+            codes = null;
+            return new DataTable(headers, columns, rowCount);
+        }
+
+        private void grow() {
+            capacity *= 2;
+            for (int c = 0; c < codes.length; c++) {
+                codes[c] = Arrays.copyOf(codes[c], capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.AutoPOC.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves each browser's driver binary once per JVM and memoizes the result.
+ * Resolution order: an explicit {@code webdriver.*.driver} system property, a pre-seeded
+ * local directory ({@code webdriver.local.dir}) for air-gapped runners, then WebDriverManager
+ * using its existing cache. If all of these fail, Selenium Manager is left to locate the driver.
+ */
+public class DriverBinaryResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+
+    private static final String LOCAL_DRIVER_DIR = ConfigReader.getProperty("webdriver.local.dir", "");
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("win");
+
+    private static final Map<String, Resolution> resolutions = new ConcurrentHashMap<>();
+
+    /**
+     * Outcome of resolving one browser's driver.
+     *
+     * @param browser    Browser name
+     * @param driverPath Absolute driver path, or {@code null} when left to Selenium Manager
+     * @param source     Where the driver came from
+     * @param millis     Time spent resolving
+     */
+    public record Resolution(String browser, String driverPath, String source, long millis) {
+    }
+
+    /**
+     * Resolves the driver binary for the given browser; only the first call per browser does any work.
+     *
+     * @param browser Normalized browser name (chrome | firefox | edge)
+     * @return Memoized resolution
+     */
+    public static Resolution resolve(String browser) {
+        return resolutions.computeIfAbsent(browser, DriverBinaryResolver::doResolve);
+    }
+
+    /**
+     * @return Resolutions performed so far, including their timing
+     */
+    public static Map<String, Resolution> getResolutions() {
+        return Collections.unmodifiableMap(resolutions);
+    }
+
+    private static Resolution doResolve(String browser) {
+        long start = System.nanoTime();
+        String property = systemPropertyFor(browser);
+        String path;
+        String source;
+
+        if (System.getProperty(property) != null) {
+            path = System.getProperty(property);
+            source = "system property";
+        } else if ((path = findInLocalDir(browser)) != null) {
+            System.setProperty(property, path);
+            source = "local dir";
+        } else {
+            try {
+                WebDriverManager manager = managerFor(browser);
+                manager.setup();
+                path = manager.getDownloadedDriverPath();
+                source = "WebDriverManager";
+            } catch (Exception e) {
+                logger.warn("WebDriverManager could not resolve {} driver, falling back to Selenium Manager: {}",
+                        browser, e.getMessage());
+                path = null;
+                source = "Selenium Manager";
+            }
+        }
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Driver for {} resolved in {} ms via {}: {}", browser, millis, source, path);
+        return new Resolution(browser, path, source, millis);
+    }
+
+    private static String findInLocalDir(String browser) {
+        if (LOCAL_DRIVER_DIR.isBlank()) return null;
+
+        Path candidate = Paths.get(LOCAL_DRIVER_DIR, binaryNameFor(browser) + (IS_WINDOWS ? ".exe" : ""));
+        if (Files.isRegularFile(candidate)) {
+            return candidate.toAbsolutePath().toString();
+        }
+        logger.warn("No {} driver found in local driver dir {}", browser, LOCAL_DRIVER_DIR);
+        return null;
+    }
+
+    private static WebDriverManager managerFor(String browser) {
+        return switch (browser) {
+            case "firefox" -> WebDriverManager.firefoxdriver();
+            case "edge" -> WebDriverManager.edgedriver();
+            default -> WebDriverManager.chromedriver();
+        };
+    }
+
+    private static String systemPropertyFor(String browser) {
+        return switch (browser) {
+            case "firefox" -> "webdriver.gecko.driver";
+            case "edge" -> "webdriver.edge.driver";
+            default -> "webdriver.chrome.driver";
+        };
+    }
+
+    private static String binaryNameFor(String browser) {
+        return switch (browser) {
+            case "firefox" -> "geckodriver";
+            case "edge" -> "msedgedriver";
+            default -> "chromedriver";
+        };
+    }
+}
@@ -1,79 +1,151 @@
 package com.AutoPOC.utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.AbstractDriverOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.*;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Factory utility for initializing and managing WebDriver instances.
  * Supports Chrome, Firefox, and Edge with argument and headless configurations.
+ * With {@code browser.profile=performance} browsers start headless with a fixed viewport,
+ * eager page loads, images disabled and configured URL patterns (analytics, fonts) blocked.
+ * With {@code driver.backend=remote} the same options are sent as capabilities to the nodes of {@link RemoteNodes}.
  */
 public class DriverFactory {
 
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
     private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
     private static final String DEFAULT_BROWSER = "chrome";
+    private static final String PERFORMANCE_PROFILE = "performance";
 
     /**
      * Initializes the WebDriver based on configuration or input.
+     * Leases a warm session from {@link DriverPool} when pooling is enabled.
      * @param browserFromExcel Optional browser name (overrides config).
      */
     public static void initializeDriver(String browserFromExcel) {
         if (driver.get() != null) return;
 
-        String browser = Optional.ofNullable(browserFromExcel)
+        String browser = resolveBrowser(browserFromExcel);
+        WebDriver webDriver = DriverPool.isEnabled() ? DriverPool.lease(browser) : createDriver(browser);
+
+        driver.set(webDriver);
+        logger.info("WebDriver initialized for browser: {}", browser);
+    }
+
+    /**
+     * Normalizes the browser name, falling back to the configured default.
+     * @param browserFromExcel Optional browser name
+     * @return lower-case browser name
+     */
+    static String resolveBrowser(String browserFromExcel) {
+        return Optional.ofNullable(browserFromExcel)
                 .filter(s -> !s.isBlank())
                 .orElse(ConfigReader.getProperty("browser", DEFAULT_BROWSER))
                 .trim().toLowerCase();
+    }
 
-        boolean isHeadless = Boolean.parseBoolean(ConfigReader.getProperty("headless.mode", "false"));
+    /**
+     * Launches a new browser session with the configured arguments.
+     * @param browser normalized browser name
+     * @return new WebDriver
+     */
+    static WebDriver createDriver(String browser) {
+        boolean performance = isPerformanceProfile();
+        boolean isHeadless = performance || ConfigReader.getBoolean("headless.mode", false);
 
-        List<String> browserArgs = getArgs(browser + ".browser.arguments");
-        List<String> headlessArgs = getArgs("headless.arguments");
+        List<String> browserArgs = ConfigReader.getArgs(browser + ".browser.arguments");
+        List<String> headlessArgs = ConfigReader.getArgs("headless.arguments");
+        if (performance) {
+            // Window size comes from the fixed viewport instead
+            browserArgs = browserArgs.stream().filter(a -> !a.startsWith("--start-")).toList();
+            headlessArgs = getPerformanceArgs(browser);
+        }
 
-        WebDriver webDriver = getBrowserMap(browserArgs, headlessArgs, isHeadless)
-                .getOrDefault(browser, getBrowserMap(browserArgs, headlessArgs, isHeadless).get(DEFAULT_BROWSER))
-                .get();
+        Map<String, Supplier<WebDriver>> browserMap = getBrowserMap(browserArgs, headlessArgs, isHeadless, performance);
+        return browserMap.getOrDefault(browser, browserMap.get(DEFAULT_BROWSER)).get();
+    }
 
-        driver.set(webDriver);
-        logger.info("WebDriver initialized for browser: {}", browser);
+    /**
+     * Identifies sessions that are interchangeable: same browser, profile and launch arguments.
+     * @param browser normalized browser name
+     * @return pool key
+     */
+    static String sessionKey(String browser) {
+        String backend = RemoteNodes.isEnabled() ? "remote|" : "";
+        if (isPerformanceProfile()) return backend + browser + "|" + PERFORMANCE_PROFILE;
+
+        boolean isHeadless = ConfigReader.getBoolean("headless.mode", false);
+        return backend + browser + "|" + ConfigReader.getArgs(browser + ".browser.arguments")
+                + (isHeadless ? "|" + ConfigReader.getArgs("headless.arguments") : "");
     }
 
-    private static List<String> getArgs(String configKey) {
-        String argString = ConfigReader.getProperty(configKey, "");
-        return argString.isBlank() ? Collections.emptyList() : Arrays.asList(argString.split(","));
+    /**
+     * @return {@code true} if {@code browser.profile=performance}; can be set per run with -Dbrowser.profile=performance
+     */
+    static boolean isPerformanceProfile() {
+        return PERFORMANCE_PROFILE.equalsIgnoreCase(ConfigReader.getProperty("browser.profile", "default"));
     }
 
-    private static Map<String, Supplier<WebDriver>> getBrowserMap(List<String> browserArgs, List<String> headlessArgs, boolean isHeadless) {
+    /**
+     * Headless arguments of the performance profile: new headless mode and a fixed viewport.
+     */
+    private static List<String> getPerformanceArgs(String browser) {
+        String[] viewport = ConfigReader.getProperty("performance.viewport", "1366x768").toLowerCase().split("x");
+        String width = viewport[0].trim();
+        String height = viewport.length > 1 ? viewport[1].trim() : "768";
+
+        if ("firefox".equals(browser)) {
+            return List.of("-headless", "--width=" + width, "--height=" + height);
+        }
+        return List.of("--headless=new", "--window-size=" + width + "," + height,
+                "--blink-settings=imagesEnabled=false", "--disable-remote-fonts");
+    }
+
+    private static Map<String, Supplier<WebDriver>> getBrowserMap(List<String> browserArgs, List<String> headlessArgs,
+                                                                 boolean isHeadless, boolean performance) {
+        boolean remote = RemoteNodes.isEnabled();
         return Map.of(
-                "chrome", () -> createDriver(new ChromeOptions(), WebDriverManager.chromedriver(), browserArgs, headlessArgs, isHeadless, ChromeDriver::new),
-                "firefox", () -> createDriver(new FirefoxOptions(), WebDriverManager.firefoxdriver(), browserArgs, headlessArgs, isHeadless, FirefoxDriver::new),
-                "edge", () -> createDriver(new EdgeOptions(), WebDriverManager.edgedriver(), browserArgs, headlessArgs, isHeadless, EdgeDriver::new)
+                "chrome", () -> createDriver("chrome", new ChromeOptions(), browserArgs, headlessArgs, isHeadless, performance,
+                        remote ? RemoteNodes::create : ChromeDriver::new),
+                "firefox", () -> createDriver("firefox", new FirefoxOptions(), browserArgs, headlessArgs, isHeadless, performance,
+                        remote ? RemoteNodes::create : FirefoxDriver::new),
+                "edge", () -> createDriver("edge", new EdgeOptions(), browserArgs, headlessArgs, isHeadless, performance,
+                        remote ? RemoteNodes::create : EdgeDriver::new)
         );
     }
 
-    private static <T extends WebDriver, O extends MutableCapabilities>
-    T createDriver(O options, WebDriverManager manager, List<String> browserArgs,
-                   List<String> headlessArgs, boolean isHeadless, Supplier<T> driverSupplier) {
+    private static <O extends MutableCapabilities>
+    WebDriver createDriver(String browser, O options, List<String> browserArgs, List<String> headlessArgs,
+                           boolean isHeadless, boolean performance, Function<? super O, ? extends WebDriver> driverConstructor) {
 
-        manager.clearDriverCache();
-        manager.setup();
+        // Remote nodes bring their own driver binaries
+        if (!RemoteNodes.isEnabled()) DriverBinaryResolver.resolve(browser);
 
-        applyArguments(options, browserArgs, headlessArgs, isHeadless);
-        T webDriver = driverSupplier.get();
+        applyArguments(options, browserArgs, headlessArgs, isHeadless, performance);
+        applyCapabilities(options);
+        WebDriver webDriver = driverConstructor.apply(options);
+
+        if (performance) {
+            blockUrls(webDriver);
+            return webDriver;
+        }
 
         try {
             webDriver.manage().window().maximize();
@@ -86,7 +158,7 @@ public class DriverFactory {
     }
 
     private static void applyArguments(MutableCapabilities options, List<String> browserArgs,
-                                       List<String> headlessArgs, boolean isHeadless) {
+                                       List<String> headlessArgs, boolean isHeadless, boolean performance) {
         if (options instanceof ChromeOptions chromeOptions) {
             chromeOptions.addArguments(browserArgs);
             if (isHeadless) chromeOptions.addArguments(headlessArgs);
@@ -94,10 +166,11 @@ public class DriverFactory {
             chromeOptions.addArguments("--incognito", "--disable-popup-blocking", "--disable-notifications",
                     "--disable-blink-features=AutomationControlled", "--disable-infobars", "--disable-extensions");
 
-            Map<String, Object> prefs = Map.of(
+            Map<String, Object> prefs = new HashMap<>(Map.of(
                     "credentials_enable_service", false,
                     "profile.password_manager_enabled", false
-            );
+            ));
+            if (performance) prefs.putAll(getPerformancePrefs());
 
             chromeOptions.setExperimentalOption("prefs", prefs);
             chromeOptions.setExperimentalOption("excludeSwitches", List.of("enable-automation"));
@@ -106,13 +179,70 @@ public class DriverFactory {
             if (options instanceof FirefoxOptions ff) {
                 ff.addArguments(browserArgs);
                 if (isHeadless) ff.addArguments(headlessArgs);
+                if (performance) {
+                    ff.addPreference("permissions.default.image", 2);
+                    ff.addPreference("browser.display.use_document_fonts", 0);
+                    ff.addPreference("network.cookie.cookieBehavior", 1); // block third-party cookies
+                }
             } else if (options instanceof EdgeOptions edge) {
                 edge.addArguments(browserArgs);
                 if (isHeadless) edge.addArguments(headlessArgs);
+                if (performance) edge.setExperimentalOption("prefs", getPerformancePrefs());
             }
         }
 
-        logger.info("Applying browser arguments: {}", browserArgs);
+        if (performance && options instanceof AbstractDriverOptions<?> driverOptions) {
+            driverOptions.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+
+        logger.info("Applying browser arguments: {}{}", browserArgs, performance ? " (performance profile)" : "");
+    }
+
+    /**
+     * Adds the {@code remote.capabilities} entries (name=value, e.g. se:name=AutoPOC,platformName=linux).
+     * Only applied with the remote backend; local drivers ignore most of them.
+     */
+    private static void applyCapabilities(MutableCapabilities options) {
+        if (!RemoteNodes.isEnabled()) return;
+
+        for (String entry : ConfigReader.getList("remote.capabilities")) {
+            int eq = entry.indexOf('=');
+            if (eq <= 0) throw new IllegalArgumentException("remote.capabilities entry is not name=value: " + entry);
+
+            String value = entry.substring(eq + 1).trim();
+            options.setCapability(entry.substring(0, eq).trim(),
+                    "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value) ? (Object) Boolean.valueOf(value) : value);
+        }
+    }
+
+    /**
+     * Chromium content settings of the performance profile: no images, no third-party cookies.
+     */
+    private static Map<String, Object> getPerformancePrefs() {
+        return Map.of(
+                "profile.managed_default_content_settings.images", 2,
+                "profile.block_third_party_cookies", true
+        );
+    }
+
+    /**
+     * Blocks the {@code performance.blocked.urls} patterns through CDP (Chromium browsers only).
+     */
+    private static void blockUrls(WebDriver webDriver) {
+        List<String> patterns = ConfigReader.getList("performance.blocked.urls");
+        if (patterns.isEmpty()) return;
+
+        if (!(webDriver instanceof ChromiumDriver chromium)) {
+            logger.info("URL blocking needs CDP; skipped for {}", webDriver.getClass().getSimpleName());
+            return;
+        }
+        try {
+            chromium.executeCdpCommand("Network.enable", Map.of());
+            chromium.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+            logger.info("Blocking {} URL pattern(s): {}", patterns.size(), patterns);
+        } catch (Exception e) {
+            logger.warn("Unable to block URLs through CDP: {}", e.getMessage());
+        }
     }
 
     /**
@@ -126,11 +256,15 @@ public class DriverFactory {
     }
 
     /**
-     * Quits the WebDriver and removes it from the thread context.
+     * Quits the WebDriver (or returns it to {@link DriverPool}) and removes it from the thread context.
      */
     public static void quitDriver() {
         if (driver.get() != null) {
             try {
+                if (DriverPool.isEnabled()) {
+                    DriverPool.release(driver.get());
+                    return;
+                }
                 driver.get().manage().deleteAllCookies();
                 logger.info("Cleared all cookies for the domain: {}", getDomain(driver.get().getCurrentUrl()));
                 driver.get().quit();
@@ -0,0 +1,258 @@
+package com.AutoPOC.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Bounded pool of warm browser sessions, keyed by browser type + launch arguments.
+ * Sessions are leased to test threads and, on release, reset (cookies, storage, about:blank)
+ * instead of quit. Sessions are retired after a maximum number of uses, when a health check
+ * fails, or after sitting idle longer than the configured timeout.
+ */
+public class DriverPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+
+    private static final boolean ENABLED = ConfigReader.getBoolean("driver.pool.enabled", false);
+    private static final int MAX_SIZE = ConfigReader.getInt("driver.pool.max.size", 4);
+    private static final int MAX_REUSE = ConfigReader.getInt("driver.pool.max.reuse", 50);
+    private static final long IDLE_TIMEOUT_MS = ConfigReader.getDuration(
+            "driver.pool.idle.timeout.seconds", ChronoUnit.SECONDS, Duration.ofMinutes(5)).toMillis();
+    private static final long LEASE_TIMEOUT_SECONDS = ConfigReader.getDuration(
+            "driver.pool.lease.timeout.seconds", ChronoUnit.SECONDS, Duration.ofMinutes(10)).toSeconds();
+
+    private static final Map<String, Deque<PooledDriver>> idle = new ConcurrentHashMap<>();
+    private static final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "driver-pool-evictor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        if (ENABLED) {
+            long period = Math.max(IDLE_TIMEOUT_MS / 2, 1000);
+            evictor.scheduleAtFixedRate(DriverPool::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static final class PooledDriver {
+        final WebDriver driver;
+        final String key;
+        int uses;
+        long idleSince;
+
+        PooledDriver(WebDriver driver, String key) {
+            this.driver = driver;
+            this.key = key;
+        }
+    }
+
+    /**
+     * @return {@code true} if {@code driver.pool.enabled=true}
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Launches up to {@code count} sessions for the given browser in parallel and parks them in the pool.
+     *
+     * @param browserName Browser name (blank uses the configured default)
+     * @param count       Number of sessions to start, capped at {@code driver.pool.max.size}
+     */
+    public static void prewarm(String browserName, int count) {
+        if (!ENABLED || count <= 0) return;
+
+        String browser = DriverFactory.resolveBrowser(browserName);
+        String key = DriverFactory.sessionKey(browser);
+        int n = Math.min(count, MAX_SIZE);
+
+        ExecutorService launcher = Executors.newFixedThreadPool(n);
+        try {
+            List<Future<WebDriver>> started = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                started.add(launcher.submit(() -> DriverFactory.createDriver(browser)));
+            }
+            for (Future<WebDriver> f : started) {
+                try {
+                    park(new PooledDriver(f.get(), key));
+                } catch (ExecutionException e) {
+                    logger.warn("Prewarm launch failed for {}: {}", browser, e.getCause().getMessage());
+                }
+            }
+            logger.info("Driver pool prewarmed with {} {} session(s)", idleCount(key), browser);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            launcher.shutdown();
+        }
+    }
+
+    /**
+     * Leases a healthy session for the given browser, launching a new one if none is idle.
+     * Blocks while {@code driver.pool.max.size} sessions of that kind are already leased.
+     *
+     * @param browser Normalized browser name
+     * @return Leased WebDriver
+     */
+    public static WebDriver lease(String browser) {
+        String key = DriverFactory.sessionKey(browser);
+        Semaphore permit = permits.computeIfAbsent(key, k -> new Semaphore(MAX_SIZE, true));
+        try {
+            if (!permit.tryAcquire(LEASE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for a pooled " + browser + " session");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled " + browser + " session", e);
+        }
+
+        try {
+            Deque<PooledDriver> queue = idle.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+            PooledDriver pooled;
+            while ((pooled = queue.pollFirst()) != null) {
+                if (isExpired(pooled) || !isHealthy(pooled.driver)) {
+                    retire(pooled, "expired or unhealthy");
+                    continue;
+                }
+                break;
+            }
+
+            if (pooled == null) {
+                pooled = new PooledDriver(DriverFactory.createDriver(browser), key);
+                logger.info("Driver pool launched new {} session", browser);
+            } else {
+                logger.info("Driver pool reused {} session (use {})", browser, pooled.uses + 1);
+            }
+
+            pooled.uses++;
+            leased.put(pooled.driver, pooled);
+            return pooled.driver;
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a leased session to the pool after resetting its state,
+     * or quits it if it reached the reuse limit or cannot be reset.
+     *
+     * @param driver Session obtained from {@link #lease(String)}
+     */
+    public static void release(WebDriver driver) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            logger.warn("Released driver was not leased from the pool; quitting it.");
+            quietQuit(driver);
+            return;
+        }
+
+        try {
+            if (pooled.uses >= MAX_REUSE) {
+                retire(pooled, "reuse limit reached");
+            } else if (reset(pooled.driver)) {
+                park(pooled);
+            } else {
+                retire(pooled, "reset failed");
+            }
+        } finally {
+            permits.get(pooled.key).release();
+        }
+    }
+
+    /**
+     * Quits every idle session. Leased sessions are quit when released after this call.
+     */
+    public static void shutdown() {
+        evictor.shutdownNow();
+        idle.values().forEach(queue -> {
+            PooledDriver pooled;
+            while ((pooled = queue.pollFirst()) != null) {
+                retire(pooled, "pool shutdown");
+            }
+        });
+    }
+
+    // ─── Internals ─────────────────────────────────────────────────────
+
+    private static void park(PooledDriver pooled) {
+        pooled.idleSince = System.currentTimeMillis();
+        idle.computeIfAbsent(pooled.key, k -> new ConcurrentLinkedDeque<>()).addFirst(pooled);
+    }
+
+    /**
+     * Clears cookies and web storage, closes extra windows, and parks the session on about:blank.
+     */
+    private static boolean reset(WebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i)).close();
+            }
+            driver.switchTo().window(handles.get(0));
+
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.navigate().to("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Unable to reset pooled session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean isExpired(PooledDriver pooled) {
+        return System.currentTimeMillis() - pooled.idleSince > IDLE_TIMEOUT_MS;
+    }
+
+    private static void evictIdle() {
+        // Sessions are parked at the head, so the oldest idle sessions sit at the tail
+        idle.values().forEach(queue -> {
+            PooledDriver pooled;
+            while ((pooled = queue.peekLast()) != null && isExpired(pooled)) {
+                if (queue.removeLastOccurrence(pooled)) {
+                    retire(pooled, "idle timeout");
+                }
+            }
+        });
+    }
+
+    private static void retire(PooledDriver pooled, String reason) {
+        logger.info("Retiring pooled session after {} use(s): {}", pooled.uses, reason);
+        quietQuit(pooled.driver);
+    }
+
+    private static void quietQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.warn("Error while quitting pooled WebDriver: {}", e.getMessage());
+        }
+    }
+
+    private static int idleCount(String key) {
+        Deque<PooledDriver> queue = idle.get(key);
+        return queue == null ? 0 : queue.size();
+    }
+}
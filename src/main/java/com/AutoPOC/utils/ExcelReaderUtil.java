@@ -1,22 +1,32 @@
 package com.AutoPOC.utils;
 
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Utility class for reading and handling Excel sheets using Apache POI.
  * Commonly used for test data loading and row indexing in automation frameworks.
+ * Parsed sheets are served from {@link ExcelSheetCache}, so repeated lookups do not re-read the workbook.
  */
 public class ExcelReaderUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(ExcelReaderUtil.class);
 
+    // Reader mode from config: "dom" (full workbook model) or "streaming" (SAX event API)
+    private static final boolean STREAMING = "streaming".equalsIgnoreCase(ConfigReader.getProperty("excel.reader.mode", "dom"));
+    // Parsed sheets are also kept as binary snapshots across runs, see SheetSnapshots.
+    // "sax" replaced the "streaming" tag when streaming reads started returning dom-mode values.
+    private static final ExcelSheetCache.Loader LOADER = SheetSnapshots.wrap(
+            STREAMING ? ExcelStreamingReader::readSheet : ExcelReaderUtil::parseSheet, STREAMING ? "sax" : "dom");
+
     /**
      * Fetches a row as key-value pairs where keys are headers.
      * Uses header row at index 1 by default.
@@ -39,89 +49,127 @@ public class ExcelReaderUtil {
      * @param keyColumnIndex   Column to match against (zero-based)
      * @param key              Lookup value
      * @param headerRowIndex   Header row index (zero-based)
-     * @return Map of header-value pairs for matched row
+     * @return Read-only map of header-value pairs for matched row
      */
     public static Map<String, String> getRowByKey(String filePath, String sheetName, int keyColumnIndex, String key, int headerRowIndex) {
-        Map<String, String> rowData = new LinkedHashMap<>();
-
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook wb = WorkbookFactory.create(fis)) {
-
-            Sheet sheet = wb.getSheet(sheetName);
-            if (sheet == null) throw new IllegalArgumentException("Sheet not found: " + sheetName);
+        ParsedSheet sheet = getParsedSheet(filePath, sheetName, headerRowIndex);
 
-            Row header = sheet.getRow(headerRowIndex);
-            if (header == null) throw new IllegalArgumentException("Header row missing at index " + headerRowIndex);
+        Map<String, String> rowData = sheet.findRow(keyColumnIndex, key);
+        if (rowData != null) return rowData;
 
-            for (int r = headerRowIndex + 1; r <= sheet.getLastRowNum(); r++) {
-                Row row = sheet.getRow(r);
-                if (row == null) continue;
-
-                String cellVal = getCellValue(row.getCell(keyColumnIndex)).trim();
-                if (cellVal.equalsIgnoreCase(key.trim())) {
-                    for (int c = 0; c < header.getLastCellNum(); c++) {
-                        rowData.put(getCellValue(header.getCell(c)).trim(),
-                                getCellValue(row.getCell(c)).trim());
-                    }
-                    break;
-                }
-            }
-
-            if (rowData.isEmpty()) {
-                throw new RuntimeException("No row found for key: " + key +
-                        " in sheet: " + sheetName + " (col " + keyColumnIndex + ")");
-            }
-
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading Excel file: " + filePath, e);
-        }
+        throw new RuntimeException("No row found for key: " + key +
+                " in sheet: " + sheetName + " (col " + keyColumnIndex + ")");
+    }
 
-        return rowData;
+    /**
+     * Returns the cached parsed sheet, parsing it on first use or after the file changed.
+     *
+     * @param filePath       Path to Excel file
+     * @param sheetName      Sheet to read
+     * @param headerRowIndex Header row index (zero-based)
+     * @return Parsed sheet
+     */
+    public static ParsedSheet getParsedSheet(String filePath, String sheetName, int headerRowIndex) {
+        return ExcelSheetCache.get(filePath, sheetName, headerRowIndex, LOADER);
     }
 
     /**
      * Loads all rows from a sheet as List<Map> with column header mapping.
-     * Header is expected at row index 0.
+     * Header is expected at row index 0. Returned maps are read-only views over the cached sheet's columns.
      *
      * @param filePath   Path to Excel file
      * @param sheetName  Sheet name to read
      * @return List of Maps, each representing one row
      */
     public static List<Map<String, String>> getAllRows(String filePath, String sheetName) {
-        List<Map<String, String>> all = new ArrayList<>();
+        try {
+            return ExcelSheetCache.get(filePath, sheetName, 0, LOADER).getRows();
+        } catch (IllegalArgumentException e) {
+            logger.error("{} in {}", e.getMessage(), filePath);
+        } catch (Exception e) {
+            logger.error("Error reading rows from {}", sheetName, e);
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * Streams the rows below the given header row as header-value maps.
+     * In streaming mode rows are parsed lazily and the sheet is never held in memory as a whole;
+     * in dom mode the cached parsed sheet is streamed. Close the stream if it is not fully consumed.
+     *
+     * @param filePath       Path to Excel file
+     * @param sheetName      Sheet name to read
+     * @param headerRowIndex Header row index (zero-based)
+     * @return Stream of row maps
+     */
+    public static Stream<Map<String, String>> streamRows(String filePath, String sheetName, int headerRowIndex) {
+        if (STREAMING) {
+            return ExcelStreamingReader.streamRows(filePath, sheetName, headerRowIndex);
+        }
+        return ExcelSheetCache.get(filePath, sheetName, headerRowIndex, LOADER).getRows().stream();
+    }
 
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook wb = new XSSFWorkbook(fis)) {
+    /**
+     * Streams only the given columns of each row below the header row, without building row maps.
+     * A column that is not in the header row reads as an empty string. Close the stream if it is not fully consumed.
+     *
+     * @param filePath       Path to Excel file
+     * @param sheetName      Sheet name to read
+     * @param headerRowIndex Header row index (zero-based)
+     * @param columns        Headers to project, in output order
+     * @return Stream of projected values
+     */
+    public static Stream<String[]> streamColumns(String filePath, String sheetName, int headerRowIndex, List<String> columns) {
+        if (STREAMING) {
+            return ExcelStreamingReader.streamColumns(filePath, sheetName, headerRowIndex, columns);
+        }
+        ParsedSheet sheet = getParsedSheet(filePath, sheetName, headerRowIndex);
+        int[] indexes = columns.stream().mapToInt(sheet.getHeaders()::indexOf).toArray();
+        return IntStream.range(0, sheet.size()).mapToObj(r -> {
+            String[] values = new String[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                values[i] = indexes[i] < 0 ? "" : sheet.cell(r, indexes[i]);
+            }
+            return values;
+        });
+    }
+
+    /**
+     * Parses a sheet into trimmed header and cell values. Used as the dom-mode loader for {@link ExcelSheetCache}.
+     *
+     * @param file           Excel file
+     * @param sheetName      Sheet to read
+     * @param headerRowIndex Header row index (zero-based)
+     * @return Parsed sheet
+     */
+    static ParsedSheet parseSheet(File file, String sheetName, int headerRowIndex) throws IOException {
+        try (Workbook wb = WorkbookFactory.create(file, null, true)) {
 
             Sheet sheet = wb.getSheet(sheetName);
-            if (sheet == null) {
-                logger.error("Sheet '{}' not found in {}", sheetName, filePath);
-                return all;
-            }
+            if (sheet == null) throw new IllegalArgumentException("Sheet not found: " + sheetName);
 
-            Row header = sheet.getRow(0);
-            if (header == null) {
-                logger.error("Header row missing in sheet: {}", sheetName);
-                return all;
+            Row header = sheet.getRow(headerRowIndex);
+            if (header == null) throw new IllegalArgumentException("Header row missing at index " + headerRowIndex);
+
+            List<String> headers = new ArrayList<>();
+            for (int c = 0; c < header.getLastCellNum(); c++) {
+                headers.add(getCellValue(header.getCell(c)).trim());
             }
 
-            for (int r = 1; r <= sheet.getLastRowNum(); r++) {
+            DataTable.Builder table = DataTable.builder(headers);
+            for (int r = headerRowIndex + 1; r <= sheet.getLastRowNum(); r++) {
                 Row row = sheet.getRow(r);
                 if (row == null) continue;
 
-                Map<String, String> rowMap = new LinkedHashMap<>();
-                for (int c = 0; c < header.getLastCellNum(); c++) {
-                    rowMap.put(getCellValue(header.getCell(c)).trim(),
-                            getCellValue(row.getCell(c)).trim());
+                String[] values = new String[headers.size()];
+                for (int c = 0; c < values.length; c++) {
+                    values[c] = getCellValue(row.getCell(c)).trim();
                 }
-                all.add(rowMap);
+                table.addRow(values);
             }
 
-        } catch (Exception e) {
-            logger.error("Error reading rows from {}", sheetName, e);
+            return new ParsedSheet(sheetName, table.build());
         }
-
-        return all;
     }
 
     /**
@@ -160,15 +208,9 @@ public class ExcelReaderUtil {
         if (cell == null) return "";
         return switch (cell.getCellType()) {
             case STRING  -> cell.getStringCellValue();
-            case NUMERIC -> {
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    yield cell.getDateCellValue().toString();
-                } else {
-                    double d = cell.getNumericCellValue();
-                    long l = (long) d;
-                    yield (d == l) ? String.valueOf(l) : String.valueOf(d);
-                }
-            }
+            case NUMERIC -> DateUtil.isCellDateFormatted(cell)
+                    ? cell.getDateCellValue().toString()
+                    : numericText(cell.getNumericCellValue());
             case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
             case FORMULA -> cell.getCellFormula();
             case BLANK   -> "";
@@ -176,6 +218,18 @@ public class ExcelReaderUtil {
         };
     }
 
+    /**
+     * Text of a numeric cell that is not date-formatted: whole numbers without a fraction, others as a double.
+     * Shared with {@link ExcelStreamingReader}, so both reader modes return the same values.
+     *
+     * @param d Numeric cell value
+     * @return String version of the number
+     */
+    static String numericText(double d) {
+        long l = (long) d;
+        return (d == l) ? String.valueOf(l) : String.valueOf(d);
+    }
+
     /**
      * Checks if an entire row is effectively empty (no meaningful cell content).
      *
@@ -0,0 +1,107 @@
+package com.AutoPOC.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide LRU cache of parsed Excel sheets.
+ * Entries are keyed by (file path, sheet name, header row) and are re-parsed
+ * whenever the workbook's modification time or size changes on disk.
+ */
+public class ExcelSheetCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExcelSheetCache.class);
+
+    private static final int MAX_SHEETS = ConfigReader.getInt("excel.cache.max.sheets", 16);
+
+    private static final Map<Key, Entry> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > MAX_SHEETS;
+        }
+    };
+
+    /**
+     * Parses one sheet of a workbook file.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        ParsedSheet load(File file, String sheetName, int headerRowIndex) throws IOException;
+    }
+
+    /**
+     * Returns the cached sheet, parsing it with the given loader on a miss or when the file has changed.
+     * Concurrent misses for the same key may parse twice; the last result wins.
+     *
+     * @param filePath       Path to the Excel file
+     * @param sheetName      Sheet to read
+     * @param headerRowIndex Header row index (zero-based)
+     * @param loader         Parser used on a cache miss
+     * @return Parsed sheet
+     */
+    public static ParsedSheet get(String filePath, String sheetName, int headerRowIndex, Loader loader) {
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        Key key = new Key(path.toString(), sheetName, headerRowIndex);
+
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+            long lastModified = attrs.lastModifiedTime().toMillis();
+            long size = attrs.size();
+
+            synchronized (cache) {
+                Entry entry = cache.get(key);
+                if (entry != null && entry.lastModified == lastModified && entry.size == size) {
+                    return entry.sheet;
+                }
+            }
+
+            ParsedSheet sheet = loader.load(path.toFile(), sheetName, headerRowIndex);
+            if (MAX_SHEETS > 0) {
+                synchronized (cache) {
+                    cache.put(key, new Entry(lastModified, size, sheet));
+                }
+            }
+            logger.debug("Parsed sheet '{}' from {} ({} rows)", sheetName, path, sheet.size());
+            return sheet;
+
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading Excel file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Drops every cached sheet of the given workbook. Call after writing to the file.
+     *
+     * @param filePath Path to the Excel file
+     */
+    public static void invalidate(String filePath) {
+        String path = Paths.get(filePath).toAbsolutePath().normalize().toString();
+        synchronized (cache) {
+            cache.keySet().removeIf(k -> k.path.equals(path));
+        }
+    }
+
+    /**
+     * Drops all cached sheets.
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private record Key(String path, String sheetName, int headerRowIndex) {
+    }
+
+    private record Entry(long lastModified, long size, ParsedSheet sheet) {
+    }
+}
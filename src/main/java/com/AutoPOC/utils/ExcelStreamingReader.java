@@ -0,0 +1,413 @@
+package com.AutoPOC.utils;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming (SAX) reader for .xlsx sheets built on POI's event API.
+ * Rows are parsed on a background thread and handed over through a small bounded queue,
+ * so only a few rows are held in memory at any time. Cell values match the dom reader
+ * ({@link ExcelReaderUtil}): formula text for formulas, {@code Date.toString()} for dates,
+ * unformatted numbers, lower-case booleans and empty error cells.
+ */
+public class ExcelStreamingReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExcelStreamingReader.class);
+
+    private static final int QUEUE_CAPACITY = 256;
+    private static final Object END = new Object();
+
+    /**
+     * Streams the data rows below the header row as header-value maps.
+     * The stream must be closed (try-with-resources) if it is not fully consumed.
+     *
+     * @param filePath       Path to the Excel file
+     * @param sheetName      Sheet to read
+     * @param headerRowIndex Header row index (zero-based)
+     * @return Lazy stream of row maps
+     */
+    public static Stream<Map<String, String>> streamRows(String filePath, String sheetName, int headerRowIndex) {
+        RowIterator it = new RowIterator(new File(filePath), sheetName, headerRowIndex);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(it::close);
+    }
+
+    /**
+     * Streams only the given columns of each data row, without building row maps.
+     * A column that is not in the header row reads as an empty string.
+     * The stream must be closed (try-with-resources) if it is not fully consumed.
+     *
+     * @param filePath       Path to the Excel file
+     * @param sheetName      Sheet to read
+     * @param headerRowIndex Header row index (zero-based)
+     * @param columns        Headers to project, in output order
+     * @return Lazy stream of projected values
+     */
+    public static Stream<String[]> streamColumns(String filePath, String sheetName, int headerRowIndex, List<String> columns) {
+        RowIterator it = new RowIterator(new File(filePath), sheetName, headerRowIndex);
+        Iterator<String[]> projected = new Iterator<>() {
+            private int[] indexes;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public String[] next() {
+                String[] values = it.nextValues(); // the header list arrives before the first row
+                if (indexes == null) indexes = columns.stream().mapToInt(it.headers::indexOf).toArray();
+                return project(values, indexes);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(projected, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(it::close);
+    }
+
+    /**
+     * @return Values at the given indexes; negative or out-of-range indexes yield an empty string
+     */
+    private static String[] project(String[] values, int[] indexes) {
+        String[] projected = new String[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            int c = indexes[i];
+            projected[i] = c >= 0 && c < values.length ? values[c] : "";
+        }
+        return projected;
+    }
+
+    /**
+     * Reads a whole sheet without building the workbook DOM. Used as the streaming loader for {@link ExcelSheetCache}.
+     *
+     * @param file           Excel file
+     * @param sheetName      Sheet to read
+     * @param headerRowIndex Header row index (zero-based)
+     * @return Parsed sheet
+     */
+    public static ParsedSheet readSheet(File file, String sheetName, int headerRowIndex) throws IOException {
+        RowIterator it = new RowIterator(file, sheetName, headerRowIndex);
+        try {
+            boolean more = it.hasNext(); // parses up to the header row, so the headers are known below
+            DataTable.Builder table = DataTable.builder(it.headers);
+            while (more) {
+                table.addRow(it.nextValues());
+                more = it.hasNext();
+            }
+            return new ParsedSheet(sheetName, table.build());
+        } finally {
+            it.close();
+        }
+    }
+
+    /**
+     * Parses the sheet XML and pushes the header list, then each row's values, then {@link #END}.
+     */
+    private static void parse(File file, String sheetName, int headerRowIndex, Sink sink) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream in = sheets.next()) {
+                    if (!sheets.getSheetName().equals(sheetName)) continue;
+
+                    RowCollector collector = new RowCollector(headerRowIndex, sink);
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new CellTrackingHandler(styles, strings, collector));
+                    parser.parse(new InputSource(in));
+
+                    if (collector.headers == null) {
+                        throw new IllegalArgumentException("Header row missing at index " + headerRowIndex);
+                    }
+                    return;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Sheet not found: " + sheetName);
+    }
+
+    @FunctionalInterface
+    private interface Sink {
+        void accept(Object item);
+    }
+
+    /**
+     * Sheet handler that also reports each cell's type attribute and formula text to the {@link RowCollector},
+     * which POI's {@link SheetContentsHandler} callback does not carry.
+     * Shared formulas are only written out on their first cell; the other cells of the range read as empty.
+     */
+    private static final class CellTrackingHandler extends XSSFSheetXMLHandler {
+
+        private final RowCollector collector;
+        private boolean inFormula;
+
+        CellTrackingHandler(StylesTable styles, SharedStrings strings, RowCollector collector) {
+            super(styles, null, strings, collector, new DomValueFormatter(), false);
+            this.collector = collector;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+            if (isSheetElement(uri) && "c".equals(localName)) {
+                collector.startCell(attributes.getValue("r"), attributes.getValue("t"));
+            } else if (isSheetElement(uri) && "f".equals(localName)) {
+                collector.formula = new StringBuilder();
+                inFormula = true;
+            }
+            super.startElement(uri, localName, qName, attributes);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            super.endElement(uri, localName, qName);
+            if (isSheetElement(uri) && "f".equals(localName)) {
+                inFormula = false;
+            } else if (isSheetElement(uri) && "c".equals(localName)) {
+                collector.endCell();
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            if (inFormula) collector.formula.append(ch, start, length);
+            super.characters(ch, start, length);
+        }
+
+        private static boolean isSheetElement(String uri) {
+            return uri == null || XSSFRelation.NS_SPREADSHEETML.equals(uri);
+        }
+    }
+
+    /**
+     * Formats numeric cells like {@link ExcelReaderUtil}'s dom reader instead of applying the number format:
+     * date-formatted values as {@code Date.toString()}, everything else via {@link ExcelReaderUtil#numericText}.
+     */
+    private static final class DomValueFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isValidExcelDate(value) && DateUtil.isADateFormat(formatIndex, formatString)) {
+                return DateUtil.getJavaDate(value, use1904Windowing).toString();
+            }
+            return ExcelReaderUtil.numericText(value);
+        }
+    }
+
+    /**
+     * Collects cells per row and forwards the header and the trimmed data rows to the sink.
+     */
+    private static final class RowCollector implements SheetContentsHandler {
+
+        private final int headerRowIndex;
+        private final Sink sink;
+        private final List<String> current = new ArrayList<>();
+        private List<String> headers;
+        private int lastCol;
+
+        // State of the cell being parsed, set by CellTrackingHandler
+        private String cellReference;
+        private String cellType;
+        private StringBuilder formula;
+        private boolean cellSeen;
+
+        RowCollector(int headerRowIndex, Sink sink) {
+            this.headerRowIndex = headerRowIndex;
+            this.sink = sink;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            current.clear();
+            lastCol = -1;
+        }
+
+        void startCell(String reference, String type) {
+            cellReference = reference;
+            cellType = type;
+            formula = null;
+            cellSeen = false;
+        }
+
+        void endCell() {
+            // A formula without a cached result produces no cell() callback, but the dom reader still returns its text
+            if (!cellSeen && formula != null) cell(cellReference, "", null);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            cellSeen = true;
+            int col = cellReference == null ? lastCol + 1 : new CellReference(cellReference).getCol();
+            while (current.size() < col) current.add("");
+            current.add(domValue(formattedValue).trim());
+            lastCol = col;
+        }
+
+        /**
+         * Maps the handler's value of the current cell to what {@link ExcelReaderUtil}'s dom reader returns for it.
+         */
+        private String domValue(String formattedValue) {
+            if (formula != null) return formula.toString();
+            if (formattedValue == null) return "";
+            if (cellType == null || "n".equals(cellType)) {
+                // Unstyled numbers bypass the formatter and arrive as the raw XML text
+                try {
+                    return ExcelReaderUtil.numericText(Double.parseDouble(formattedValue));
+                } catch (NumberFormatException e) {
+                    return formattedValue; // already formatted as a date
+                }
+            }
+            return switch (cellType) {
+                case "b" -> formattedValue.toLowerCase(Locale.ROOT);
+                case "e" -> "";
+                default  -> formattedValue;
+            };
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowNum == headerRowIndex) {
+                headers = List.copyOf(current);
+                sink.accept(headers);
+            } else if (rowNum > headerRowIndex && headers != null) {
+                String[] values = new String[headers.size()];
+                for (int c = 0; c < values.length; c++) {
+                    values[c] = c < current.size() ? current.get(c) : "";
+                }
+                sink.accept(values);
+            }
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+            // Not needed for data rows
+        }
+    }
+
+    /**
+     * Pull-side of the producer thread. Yields maps through {@link #next()} or raw values through {@link #nextValues()}.
+     */
+    private static final class RowIterator implements Iterator<Map<String, String>> {
+
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final String sheetName;
+        private volatile boolean cancelled;
+        private List<String> headers = List.of();
+        private Object nextItem;
+        private boolean finished;
+
+        RowIterator(File file, String sheetName, int headerRowIndex) {
+            this.sheetName = sheetName;
+            Thread producer = new Thread(() -> {
+                try {
+                    parse(file, sheetName, headerRowIndex, this::put);
+                    put(END);
+                } catch (CancellationException e) {
+                    logger.debug("Streaming read of '{}' cancelled", sheetName);
+                } catch (Exception e) {
+                    if (cancelled) return;
+                    try {
+                        put(e);
+                    } catch (CancellationException ignored) {
+                        // The consumer closed the stream while the error was being handed over
+                    }
+                }
+            }, "excel-stream-" + sheetName);
+            producer.setDaemon(true);
+            producer.start();
+        }
+
+        private void put(Object item) {
+            try {
+                while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    if (cancelled) throw new CancellationException();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            while (nextItem == null && !finished) {
+                Object item;
+                try {
+                    item = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while streaming sheet: " + sheetName, e);
+                }
+
+                if (item == END) {
+                    finished = true;
+                } else if (item instanceof RuntimeException e) {
+                    finished = true;
+                    throw e;
+                } else if (item instanceof Exception e) {
+                    finished = true;
+                    throw new RuntimeException("Error streaming sheet: " + sheetName, e);
+                } else if (item instanceof List<?> list) {
+                    headers = (List<String>) list;
+                } else {
+                    nextItem = item;
+                }
+            }
+            return nextItem != null;
+        }
+
+        @Override
+        public Map<String, String> next() {
+            String[] values = nextValues();
+            Map<String, String> rowMap = new LinkedHashMap<>();
+            for (int c = 0; c < values.length; c++) {
+                rowMap.put(headers.get(c), values[c]);
+            }
+            return rowMap;
+        }
+
+        String[] nextValues() {
+            if (!hasNext()) throw new NoSuchElementException();
+            String[] values = (String[]) nextItem;
+            nextItem = null;
+            return values;
+        }
+
+        void close() {
+            cancelled = true;
+            finished = true;
+            queue.clear();
+        }
+    }
+}
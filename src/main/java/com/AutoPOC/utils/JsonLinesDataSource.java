@@ -0,0 +1,228 @@
+package com.AutoPOC.utils;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * {@link TestDataSource} backed by a JSON Lines file: one flat JSON object per line, e.g.
+ * {@code {"Input ID":"Ip1","Country":"United States"}}. Numbers, booleans and {@code null} are read as text,
+ * values are trimmed like xlsx cells. Headers are the keys in order of first appearance; rows without a key
+ * read it as an empty string. Written rows are appended as objects with a leading "Row" key.
+ */
+public class JsonLinesDataSource extends TextDataSource {
+
+    /**
+     * @param file      JSON Lines file
+     * @param sheetName Logical sheet name, used for caching and diagnostics
+     */
+    public JsonLinesDataSource(Path file, String sheetName) {
+        super(file, sheetName);
+    }
+
+    @Override
+    protected String format() {
+        return "jsonl";
+    }
+
+    /**
+     * Reads the file twice: once to collect the headers, once to fill the table.
+     */
+    @Override
+    protected ParsedSheet parse(File source, String name, int headerRowIndex) throws IOException {
+        Set<String> headers = new LinkedHashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(source.toPath(), StandardCharsets.UTF_8)) {
+            for (Map<String, String> row; (row = readObject(reader)) != null; ) {
+                headers.addAll(row.keySet());
+            }
+        }
+
+        List<String> columns = List.copyOf(headers);
+        DataTable.Builder table = DataTable.builder(columns);
+        try (BufferedReader reader = Files.newBufferedReader(source.toPath(), StandardCharsets.UTF_8)) {
+            String[] values = new String[columns.size()];
+            for (Map<String, String> row; (row = readObject(reader)) != null; ) {
+                for (int c = 0; c < values.length; c++) {
+                    values[c] = row.getOrDefault(columns.get(c), "");
+                }
+                table.addRow(values);
+            }
+        }
+        return new ParsedSheet(name, table.build());
+    }
+
+    @Override
+    protected Iterator<Map<String, String>> rows(BufferedReader reader) {
+        return new Iterator<>() {
+            private Map<String, String> next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Map<String, String> next() {
+                if (next == null) throw new NoSuchElementException();
+                Map<String, String> row = Collections.unmodifiableMap(next);
+                next = advance();
+                return row;
+            }
+
+            private Map<String, String> advance() {
+                try {
+                    return readObject(reader);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error reading " + file, e);
+                }
+            }
+        };
+    }
+
+    @Override
+    protected String prologue() {
+        return "";
+    }
+
+    @Override
+    protected String line(int rowIndex, Map<String, String> values) {
+        StringBuilder json = new StringBuilder("{");
+        if (!values.containsKey("Row")) {
+            json.append("\"Row\":\"").append(rowIndex).append('"');
+        }
+        values.forEach((key, value) -> {
+            if (json.length() > 1) json.append(',');
+            appendString(json, key);
+            json.append(':');
+            appendString(json, value == null ? "" : value);
+        });
+        return json.append('}').toString();
+    }
+
+    /**
+     * @return Next object of the file, or {@code null} at end of file; blank lines are skipped
+     */
+    private Map<String, String> readObject(BufferedReader reader) throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) return null;
+        } while (line.isBlank());
+        return new FlatObjectParser(line, file).parse();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (ch < 0x20) json.append(String.format("\\u%04x", (int) ch));
+                    else json.append(ch);
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Parser for one line holding a flat JSON object. Nested objects and arrays are rejected.
+     */
+    private static final class FlatObjectParser {
+        private final String text;
+        private final Path file;
+        private int pos;
+
+        FlatObjectParser(String text, Path file) {
+            this.text = text;
+            this.file = file;
+        }
+
+        Map<String, String> parse() {
+            Map<String, String> row = new LinkedHashMap<>();
+            expect('{');
+            if (peek() == '}') {
+                pos++;
+                return row;
+            }
+            do {
+                String key = string();
+                expect(':');
+                row.put(key.trim(), value().trim());
+            } while (consume(','));
+            expect('}');
+            return row;
+        }
+
+        private String value() {
+            char ch = peek();
+            if (ch == '"') return string();
+            if (ch == '{' || ch == '[') throw error("nested values are not supported");
+
+            int start = pos;
+            while (pos < text.length() && ",} \t".indexOf(text.charAt(pos)) < 0) pos++;
+            String literal = text.substring(start, pos);
+            if (literal.isEmpty()) throw error("value expected");
+            return "null".equals(literal) ? "" : literal;
+        }
+
+        private String string() {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            while (pos < text.length()) {
+                char ch = text.charAt(pos++);
+                if (ch == '"') return sb.toString();
+                if (ch != '\\') {
+                    sb.append(ch);
+                    continue;
+                }
+                if (pos >= text.length()) break;
+                char esc = text.charAt(pos++);
+                switch (esc) {
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> {
+                        if (pos + 4 > text.length()) throw error("truncated \\u escape");
+                        sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                    }
+                    default -> sb.append(esc); // \" \\ \/
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        private void expect(char ch) {
+            if (peek() != ch) throw error("'" + ch + "' expected");
+            pos++;
+        }
+
+        private boolean consume(char ch) {
+            if (peek() != ch) return false;
+            pos++;
+            return true;
+        }
+
+        private char peek() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+            return pos < text.length() ? text.charAt(pos) : '\0';
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid JSON line in " + file + " at " + pos + ": " + message);
+        }
+    }
+}
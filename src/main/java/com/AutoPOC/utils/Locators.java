@@ -0,0 +1,81 @@
+package com.AutoPOC.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locator helpers shared by the page objects.
+ * Dynamic XPath locators are built once per template + value and cached, and several XPaths
+ * can be resolved or counted in a single {@code executeScript} round trip instead of one
+ * {@code findElement(s)} call each.
+ */
+public final class Locators {
+
+    private static final int MAX_CACHED = 2048;
+    private static final Map<String, By> cache = new ConcurrentHashMap<>();
+
+    private static final String RESOLVE_SCRIPT =
+            "return arguments[0].map(function (xp) {" +
+            "  return document.evaluate(xp, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "});";
+
+    private static final String COUNT_SCRIPT =
+            "return arguments[0].map(function (xp) {" +
+            "  return document.evaluate(xp, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null).snapshotLength;" +
+            "});";
+
+    private Locators() {
+    }
+
+    /**
+     * Returns the cached XPath locator for a template and value.
+     *
+     * @param template XPath with one {@code %s} placeholder, e.g. {@code //ul[@class='top-menu']//a[normalize-space()='%s']}
+     * @param value    Value substituted for the placeholder
+     * @return Cached {@link By}
+     */
+    public static By xpath(String template, String value) {
+        String key = template + '\u0000' + value;
+        By by = cache.get(key);
+        if (by != null) return by;
+
+        // Values come from test data, so bound the cache instead of letting it grow with every distinct value
+        if (cache.size() >= MAX_CACHED) cache.clear();
+        return cache.computeIfAbsent(key, k -> By.xpath(String.format(template, value)));
+    }
+
+    /**
+     * Resolves several XPaths in one round trip.
+     *
+     * @param driver WebDriver session
+     * @param xpaths XPath expressions
+     * @return First matching element per XPath, {@code null} where nothing matched
+     */
+    public static List<WebElement> resolve(WebDriver driver, String... xpaths) {
+        List<?> raw = (List<?>) ((JavascriptExecutor) driver).executeScript(RESOLVE_SCRIPT, List.of(xpaths));
+        List<WebElement> elements = new ArrayList<>(raw.size());
+        for (Object o : raw) {
+            elements.add(o instanceof WebElement e ? e : null);
+        }
+        return elements;
+    }
+
+    /**
+     * Counts the matches of several XPaths in one round trip, without transferring element references.
+     *
+     * @param driver WebDriver session
+     * @param xpaths XPath expressions
+     * @return Number of matches per XPath
+     */
+    public static List<Integer> count(WebDriver driver, String... xpaths) {
+        List<?> raw = (List<?>) ((JavascriptExecutor) driver).executeScript(COUNT_SCRIPT, List.of(xpaths));
+        return raw.stream().map(o -> ((Number) o).intValue()).toList();
+    }
+}
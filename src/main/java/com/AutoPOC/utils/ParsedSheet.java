@@ -0,0 +1,119 @@
+package com.AutoPOC.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, fully parsed view of a single Excel sheet.
+ * Holds trimmed header names and trimmed cell values for every data row below the header in a columnar
+ * {@link DataTable}, plus lazily built case-insensitive key indexes for keyed row lookup.
+ */
+public final class ParsedSheet {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParsedSheet.class);
+
+    private final String name;
+    private final List<String> headers;
+    private final DataTable table;
+    private final List<Map<String, String>> rows;
+    private final Map<Integer, Map<String, Integer>> keyIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * @param name  Sheet name, used in diagnostics
+     * @param table Trimmed header names and cell values of the data rows
+     */
+    public ParsedSheet(String name, DataTable table) {
+        this.name = name;
+        this.headers = table.headers();
+        this.table = table;
+        this.rows = table.rows();
+    }
+
+    /**
+     * @return Sheet name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Columnar storage of the data rows
+     */
+    DataTable getTable() {
+        return table;
+    }
+
+    /**
+     * @return Header names in column order
+     */
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return Read-only header-to-value row views, one per data row
+     */
+    public List<Map<String, String>> getRows() {
+        return rows;
+    }
+
+    /**
+     * @return Number of data rows
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Returns the trimmed value at the given data row and column, or an empty string
+     * if the column lies outside the header width.
+     *
+     * @param rowIndex Data row index (zero-based, relative to the first row after the header)
+     * @param colIndex Column index (zero-based)
+     * @return Cell value
+     */
+    public String cell(int rowIndex, int colIndex) {
+        return table.get(rowIndex, colIndex);
+    }
+
+    /**
+     * Finds the first data row whose key column matches the given value, ignoring case and
+     * surrounding whitespace. The index for a column is built once on first use.
+     *
+     * @param keyColumnIndex Column to match against (zero-based)
+     * @param key            Lookup value
+     * @return Read-only row view, or {@code null} if no row matches
+     */
+    public Map<String, String> findRow(int keyColumnIndex, String key) {
+        Integer rowIndex = keyIndexes.computeIfAbsent(keyColumnIndex, this::buildKeyIndex).get(normalizeKey(key));
+        return rowIndex == null ? null : rows.get(rowIndex);
+    }
+
+    /**
+     * Builds the key-to-row index for one column, warning about duplicate keys.
+     * The first occurrence of a duplicated key wins, matching the previous linear scan.
+     */
+    private Map<String, Integer> buildKeyIndex(int keyColumnIndex) {
+        Map<String, Integer> index = new HashMap<>(table.size() * 2);
+        Set<String> duplicates = new LinkedHashSet<>();
+
+        for (int r = 0; r < table.size(); r++) {
+            String key = normalizeKey(cell(r, keyColumnIndex));
+            if (index.putIfAbsent(key, r) != null && !key.isEmpty()) {
+                duplicates.add(cell(r, keyColumnIndex));
+            }
+        }
+
+        if (!duplicates.isEmpty()) {
+            logger.warn("Duplicate keys in sheet '{}' (col {}), first match is used: {}", name, keyColumnIndex, duplicates);
+        }
+        return index;
+    }
+
+    private static String normalizeKey(String key) {
+        return key.trim().toLowerCase(Locale.ROOT);
+    }
+}
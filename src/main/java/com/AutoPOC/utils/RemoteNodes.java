@@ -0,0 +1,212 @@
+package com.AutoPOC.utils;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Remote backend of {@link DriverFactory} ({@code driver.backend=remote}): starts {@link RemoteWebDriver}
+ * sessions on the Selenium hubs/standalone servers listed in {@code remote.hub.urls}.
+ * <p>
+ * Each node allows at most {@code remote.node.max.sessions} concurrent sessions from this JVM; new sessions
+ * go to the node with the most free slots and wait when all are full. All sessions on a node share one
+ * HTTP client, so keep-alive connections are reused instead of opening a new connection pool per session.
+ */
+public class RemoteNodes {
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteNodes.class);
+
+    private static final int MAX_SESSIONS = ConfigReader.getInt("remote.node.max.sessions", 4);
+    private static final Duration SLOT_TIMEOUT = ConfigReader.getDuration(
+            "remote.slot.timeout.seconds", ChronoUnit.SECONDS, Duration.ofMinutes(10));
+
+    private static final List<Node> nodes = createNodes();
+
+    /**
+     * One hub or standalone server with its session slots and shared HTTP client.
+     */
+    private record Node(URL url, Semaphore slots, ClientConfig config, HttpClient client) {
+    }
+
+    /**
+     * @return {@code true} if {@code driver.backend=remote}
+     */
+    public static boolean isEnabled() {
+        return "remote".equalsIgnoreCase(ConfigReader.getProperty("driver.backend", "local"));
+    }
+
+    /**
+     * Starts a remote session with the given capabilities, blocking while every node is at its session limit.
+     *
+     * @param capabilities Browser options built from the configured arguments
+     * @return Remote WebDriver; quitting it frees its node slot
+     */
+    public static WebDriver create(Capabilities capabilities) {
+        long deadline = System.nanoTime() + SLOT_TIMEOUT.toNanos();
+        SessionNotCreatedException lastFailure = null;
+
+        while (System.nanoTime() < deadline) {
+            List<Node> candidates = new ArrayList<>(nodes);
+            candidates.sort(Comparator.comparingInt((Node n) -> n.slots().availablePermits()).reversed());
+
+            boolean acquiredAny = false;
+            for (Node node : candidates) {
+                if (!node.slots().tryAcquire()) continue;
+                acquiredAny = true;
+                try {
+                    WebDriver driver = start(node, capabilities);
+                    logger.info("Remote {} session started on {} ({} slot(s) left)",
+                            capabilities.getBrowserName(), node.url(), node.slots().availablePermits());
+                    return driver;
+                } catch (RuntimeException e) {
+                    node.slots().release();
+                    lastFailure = new SessionNotCreatedException("Session could not be created on " + node.url(), e);
+                    logger.warn("Remote session failed on {}: {}", node.url(), e.getMessage());
+                }
+            }
+
+            if (!acquiredAny) {
+                awaitSlot(candidates.get(0));
+            } else if (lastFailure != null) {
+                throw lastFailure;
+            }
+        }
+        throw new IllegalStateException("Timed out after " + SLOT_TIMEOUT + " waiting for a free remote session slot");
+    }
+
+    /**
+     * Closes the shared HTTP clients. Sessions still open must be quit before this call.
+     */
+    public static void shutdown() {
+        nodes.forEach(node -> node.client().close());
+    }
+
+    // ─── Internals ─────────────────────────────────────────────────────
+
+    private static WebDriver start(Node node, Capabilities capabilities) {
+        HttpClient.Factory sharedClient = new HttpClient.Factory() {
+            @Override
+            public HttpClient createClient(ClientConfig config) {
+                return new SharedClient(node.client());
+            }
+        };
+        HttpCommandExecutor executor = new HttpCommandExecutor(Map.of(), node.config(), sharedClient);
+        return new NodeBoundDriver(executor, capabilities, node.slots());
+    }
+
+    private static void awaitSlot(Node node) {
+        try {
+            // Wait on the fullest-free node for a moment, then re-check all nodes
+            if (node.slots().tryAcquire(1, TimeUnit.SECONDS)) {
+                node.slots().release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a remote session slot", e);
+        }
+    }
+
+    private static List<Node> createNodes() {
+        if (!isEnabled()) return List.of();
+
+        List<String> urls = ConfigReader.getList("remote.hub.urls");
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("driver.backend=remote needs at least one URL in remote.hub.urls");
+        }
+
+        Duration connectTimeout = ConfigReader.getDuration("remote.connect.timeout.seconds", ChronoUnit.SECONDS, Duration.ofSeconds(10));
+        Duration readTimeout = ConfigReader.getDuration("remote.read.timeout.seconds", ChronoUnit.SECONDS, Duration.ofMinutes(3));
+        HttpClient.Factory factory = HttpClient.Factory.createDefault();
+
+        List<Node> created = new ArrayList<>();
+        for (String url : urls) {
+            try {
+                ClientConfig config = ClientConfig.defaultConfig()
+                        .baseUrl(new URL(url))
+                        .connectionTimeout(connectTimeout)
+                        .readTimeout(readTimeout);
+                created.add(new Node(new URL(url), new Semaphore(MAX_SESSIONS, true), config, factory.createClient(config)));
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException("Invalid URL in remote.hub.urls: " + url, e);
+            }
+        }
+        logger.info("Remote backend: {} node(s) {}, {} session(s) each", created.size(), urls, MAX_SESSIONS);
+        return List.copyOf(created);
+    }
+
+    /**
+     * Remote session that frees its node slot once, on quit.
+     */
+    private static final class NodeBoundDriver extends RemoteWebDriver {
+        private final Semaphore slots;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        NodeBoundDriver(HttpCommandExecutor executor, Capabilities capabilities, Semaphore slots) {
+            super(executor, capabilities);
+            this.slots = slots;
+        }
+
+        @Override
+        public void quit() {
+            try {
+                super.quit();
+            } finally {
+                if (released.compareAndSet(false, true)) slots.release();
+            }
+        }
+    }
+
+    /**
+     * Node client handed to each session. The executor closes its client when the session quits,
+     * which must not close the connections other sessions are using.
+     */
+    private static final class SharedClient implements HttpClient {
+        private final HttpClient delegate;
+
+        SharedClient(HttpClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest req) {
+            return delegate.execute(req);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse> executeAsync(HttpRequest req) {
+            return delegate.executeAsync(req);
+        }
+
+        @Override
+        public void close() {
+            // Closed in RemoteNodes.shutdown()
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.AutoPOC.utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Hands out unique result-sheet rows and monotonically increasing Run IDs to parallel test threads.
+ * The Transactional_Data sheet is scanned once per JVM; afterwards allocation is a queue poll or an atomic increment.
+ * With {@code results.allocator.sidecar=true} the high-water mark is also saved next to the workbook,
+ * so the next run skips the scan as long as the workbook has not been modified in between.
+ * When the result sheet uses a csv/jsonl {@link TestDataSource}, rows are only correlation numbers for the
+ * appended records: numbering continues after the highest Row and Run ID already in the file.
+ */
+public class ResultRowAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultRowAllocator.class);
+
+    private static final String FILE_PATH = ConfigReader.getProperty("Test_Data_File_Path");
+    private static final String SHEET_NAME = ConfigReader.getProperty("Transactional_Data_Sheet_Name");
+    private static final TestDataSource RESULTS = TestDataSource.results();
+    private static final boolean APPEND_ONLY = !(RESULTS instanceof XlsxDataSource);
+    private static final boolean SIDECAR_ENABLED = !APPEND_ONLY && ConfigReader.getBoolean("results.allocator.sidecar", false);
+
+    private static final int FIRST_DATA_ROW = 2; // Rows 0 & 1 hold headers + metadata
+    private static final int RUN_ID_COL = 5;     // Column F
+
+    private static volatile State state;
+
+    /**
+     * Allocation state: blank rows left in the sheet, the next row to append, and the last issued Run ID number.
+     */
+    private record State(Queue<Integer> freeRows, AtomicInteger nextAppendRow, AtomicInteger lastRunId) {
+    }
+
+    /**
+     * Reserves a row for the calling test. Blank Run ID rows are reused first, then new rows are appended.
+     *
+     * @return Unique row index (zero-based)
+     */
+    public static int reserveRow() {
+        State s = state();
+        Integer free = s.freeRows().poll();
+        int rowIndex = free != null ? free : s.nextAppendRow().getAndIncrement();
+        logger.info("Reserved result row at index {}", rowIndex);
+        return rowIndex;
+    }
+
+    /**
+     * @return Next Run ID, e.g. "R42"
+     */
+    public static String nextRunId() {
+        return "R" + state().lastRunId().incrementAndGet();
+    }
+
+    /**
+     * Saves the current high-water mark to the sidecar file, if enabled.
+     * Call after the result writer has flushed so the recorded workbook timestamp matches the file on disk.
+     */
+    public static void saveSidecar() {
+        State s = state;
+        if (!SIDECAR_ENABLED || s == null) return;
+
+        Path workbook = Paths.get(FILE_PATH);
+        Properties props = new Properties();
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(workbook, BasicFileAttributes.class);
+            props.setProperty("workbook.modified", String.valueOf(attrs.lastModifiedTime().toMillis()));
+            props.setProperty("workbook.size", String.valueOf(attrs.size()));
+            props.setProperty("sheet", SHEET_NAME);
+            props.setProperty("next.append.row", String.valueOf(s.nextAppendRow().get()));
+            props.setProperty("last.run.id", String.valueOf(s.lastRunId().get()));
+            props.setProperty("free.rows", s.freeRows().stream().map(String::valueOf).collect(Collectors.joining(",")));
+
+            try (OutputStream out = Files.newOutputStream(sidecarPath())) {
+                props.store(out, "Result row allocator high-water mark");
+            }
+            logger.info("Saved allocator sidecar: nextRow={}, lastRunId=R{}", s.nextAppendRow().get(), s.lastRunId().get());
+        } catch (IOException e) {
+            logger.warn("Unable to save allocator sidecar: {}", e.getMessage());
+        }
+    }
+
+    private static State state() {
+        State s = state;
+        if (s == null) {
+            synchronized (ResultRowAllocator.class) {
+                s = state;
+                if (s == null) {
+                    s = SIDECAR_ENABLED ? loadSidecar() : null;
+                    if (s == null) s = APPEND_ONLY ? scanRecords() : scanSheet();
+                    state = s;
+                }
+            }
+        }
+        return s;
+    }
+
+    /**
+     * Scans the result sheet once for blank Run ID rows and the number of Run IDs already issued.
+     */
+    private static State scanSheet() {
+        Sheet sheet = ExcelReaderUtil.getSheet(FILE_PATH, SHEET_NAME);
+        if (sheet == null) throw new IllegalArgumentException("Sheet not found: " + SHEET_NAME);
+
+        Queue<Integer> freeRows = new ConcurrentLinkedQueue<>();
+        int runIds = 0;
+        for (int i = FIRST_DATA_ROW; i <= sheet.getLastRowNum(); i++) {
+            Row row = sheet.getRow(i);
+            if (row == null) continue;
+
+            Cell cell = row.getCell(RUN_ID_COL, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+            if (cell == null || cell.toString().trim().isEmpty()) {
+                freeRows.add(i);
+            } else {
+                runIds++;
+            }
+        }
+
+        int nextAppendRow = Math.max(sheet.getLastRowNum() + 1, FIRST_DATA_ROW);
+        logger.info("Allocator initialized from sheet: {} free rows, next append row {}, last Run ID R{}",
+                freeRows.size(), nextAppendRow, runIds);
+        return new State(freeRows, new AtomicInteger(nextAppendRow), new AtomicInteger(runIds));
+    }
+
+    /**
+     * Continues after the highest Row and Run ID among the records already appended to a text result file.
+     */
+    private static State scanRecords() {
+        int maxRow = FIRST_DATA_ROW - 1;
+        int maxRunId = 0;
+        try (Stream<Map<String, String>> records = RESULTS.streamRows()) {
+            for (Iterator<Map<String, String>> it = records.iterator(); it.hasNext(); ) {
+                Map<String, String> record = it.next();
+                maxRow = Math.max(maxRow, parseNumber(record.get(TestDataKeys.ROW)));
+                maxRunId = Math.max(maxRunId, parseNumber(record.getOrDefault(TestDataKeys.RUN_ID, "").replaceFirst("^R", "")));
+            }
+        }
+        logger.info("Allocator initialized from result records: next row {}, last Run ID R{}", maxRow + 1, maxRunId);
+        return new State(new ConcurrentLinkedQueue<>(), new AtomicInteger(maxRow + 1), new AtomicInteger(maxRunId));
+    }
+
+    private static int parseNumber(String value) {
+        try {
+            return value == null ? -1 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Restores state from the sidecar if it was written against the current version of the workbook.
+     */
+    private static State loadSidecar() {
+        Path sidecar = sidecarPath();
+        if (!Files.exists(sidecar)) return null;
+
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(sidecar)) {
+            props.load(in);
+            BasicFileAttributes attrs = Files.readAttributes(Paths.get(FILE_PATH), BasicFileAttributes.class);
+
+            boolean current = SHEET_NAME.equals(props.getProperty("sheet"))
+                    && String.valueOf(attrs.lastModifiedTime().toMillis()).equals(props.getProperty("workbook.modified"))
+                    && String.valueOf(attrs.size()).equals(props.getProperty("workbook.size"));
+            if (!current) {
+                logger.info("Allocator sidecar is stale; rescanning sheet.");
+                return null;
+            }
+
+            Queue<Integer> freeRows = new ConcurrentLinkedQueue<>();
+            for (String row : props.getProperty("free.rows", "").split(",")) {
+                if (!row.isBlank()) freeRows.add(Integer.parseInt(row.trim()));
+            }
+            State s = new State(freeRows,
+                    new AtomicInteger(Integer.parseInt(props.getProperty("next.append.row"))),
+                    new AtomicInteger(Integer.parseInt(props.getProperty("last.run.id"))));
+            logger.info("Allocator restored from sidecar: next append row {}, last Run ID R{}",
+                    s.nextAppendRow().get(), s.lastRunId().get());
+            return s;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to read allocator sidecar, rescanning sheet: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static Path sidecarPath() {
+        return Paths.get(FILE_PATH + ".alloc");
+    }
+}
@@ -0,0 +1,224 @@
+package com.AutoPOC.utils;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-writer sink for the Transactional_Data result sheet.
+ * Test threads enqueue row patches; one background thread coalesces them and writes the
+ * workbook once per batch (on batch size or time threshold) through a temp file + atomic rename.
+ * Call {@link #shutdown()} at suite end to flush whatever is still queued.
+ * Patches of a failed write are put back at the head of the queue and retried with the next batch.
+ */
+public class ResultSheetWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultSheetWriter.class);
+
+    private static final String FILE_PATH = ConfigReader.getProperty("Test_Data_File_Path");
+    private static final String SHEET_NAME = ConfigReader.getProperty("Transactional_Data_Sheet_Name");
+
+    private static final int BATCH_SIZE = ConfigReader.getInt("results.batch.size", 20);
+    private static final long FLUSH_INTERVAL_MS = ConfigReader.getLong("results.flush.interval.ms", 5000);
+    // A patch is dropped (and logged) after failing this many writes
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final BlockingDeque<PendingPatch> queue = new LinkedBlockingDeque<>();
+    private static final Object writeLock = new Object();
+
+    // Queued by shutdown(): the worker writes the batch it is collecting and exits
+    private static final PendingPatch STOP = new PendingPatch(-1, "stop", (sheet, row, style) -> { }, 0);
+    private static final Thread worker = startWorker();
+
+    /**
+     * Changes applied to one row of the result sheet while the workbook is open for a batch.
+     */
+    @FunctionalInterface
+    public interface RowPatch {
+        /**
+         * @param sheet Result sheet
+         * @param row   Target row (created if missing)
+         * @param style Shared bordered cell style for this batch
+         */
+        void apply(Sheet sheet, Row row, CellStyle style);
+    }
+
+    private record PendingPatch(int rowIndex, String label, RowPatch patch, int attempts) {
+    }
+
+    /**
+     * Queues a patch for the given row. Returns immediately; the write happens on the writer thread.
+     *
+     * @param rowIndex Target row index (zero-based)
+     * @param label    Short description used in logs
+     * @param patch    Cell changes to apply
+     */
+    public static void enqueue(int rowIndex, String label, RowPatch patch) {
+        queue.add(new PendingPatch(rowIndex, label, patch, 0));
+    }
+
+    /**
+     * Writes everything queued so far on the calling thread.
+     */
+    public static void flush() {
+        synchronized (writeLock) {
+            List<PendingPatch> batch = new ArrayList<>();
+            queue.drainTo(batch);
+            batch.removeIf(p -> p == STOP);
+            write(batch);
+        }
+    }
+
+    /**
+     * Stops the writer thread and flushes the remaining patches.
+     * The worker is not interrupted, so a batch it is collecting or writing is completed first.
+     */
+    public static void shutdown() {
+        queue.add(STOP);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private static Thread startWorker() {
+        Thread t = new Thread(ResultSheetWriter::runWorker, "result-sheet-writer");
+        t.setDaemon(true);
+        t.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(ResultSheetWriter::flush, "result-sheet-writer-hook"));
+        return t;
+    }
+
+    private static void runWorker() {
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                PendingPatch first = queue.poll(FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                if (first == STOP) break;
+
+                long deadline = System.currentTimeMillis() + FLUSH_INTERVAL_MS;
+                boolean written;
+                synchronized (writeLock) {
+                    List<PendingPatch> batch = new ArrayList<>();
+                    batch.add(first);
+                    while (batch.size() < BATCH_SIZE) {
+                        PendingPatch next = queue.poll(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                        if (next == null) break;
+                        if (next == STOP) {
+                            stopping = true;
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    written = write(batch);
+                }
+                // Back off before retrying re-queued patches
+                if (!written && !stopping) Thread.sleep(FLUSH_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                // Not interrupted by shutdown(); stop, leaving queued patches to shutdown() or the shutdown hook
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Applies a batch of patches to a freshly loaded workbook and replaces the file atomically.
+     * On failure the patches are re-queued, so they are not lost.
+     *
+     * @return {@code false} if the write failed
+     */
+    private static boolean write(List<PendingPatch> batch) {
+        if (batch.isEmpty()) return true;
+
+        Path target = Paths.get(FILE_PATH).toAbsolutePath();
+        try (InputStream in = Files.newInputStream(target);
+             Workbook wb = new XSSFWorkbook(in)) {
+
+            Sheet sheet = wb.getSheet(SHEET_NAME);
+            if (sheet == null) {
+                logger.error("Sheet '{}' not found in {}. Dropping {} result patches.", SHEET_NAME, FILE_PATH, batch.size());
+                return true;
+            }
+
+            CellStyle style = createBorderStyle(wb);
+            for (PendingPatch p : batch) {
+                Row row = sheet.getRow(p.rowIndex());
+                if (row == null) row = sheet.createRow(p.rowIndex());
+                p.patch().apply(sheet, row, style);
+            }
+
+            Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tmp)) {
+                    wb.write(out);
+                }
+                moveAtomically(tmp, target);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            ExcelSheetCache.invalidate(FILE_PATH);
+
+            logger.info("Result sheet flushed: {} patches ({})", batch.size(),
+                    batch.stream().map(PendingPatch::label).toList());
+            return true;
+
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to write {} result patches to {}", batch.size(), FILE_PATH, e);
+            requeue(batch);
+            return false;
+        }
+    }
+
+    /**
+     * Puts a failed batch back at the head of the queue in its original order.
+     * Patches that already failed {@link #MAX_ATTEMPTS} writes are dropped.
+     */
+    private static void requeue(List<PendingPatch> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            PendingPatch p = batch.get(i);
+            if (p.attempts() + 1 >= MAX_ATTEMPTS) {
+                logger.error("Dropping result patch after {} failed writes: {}", MAX_ATTEMPTS, p.label());
+            } else {
+                queue.addFirst(new PendingPatch(p.rowIndex(), p.label(), p.patch(), p.attempts() + 1));
+            }
+        }
+    }
+
+    private static void moveAtomically(Path tmp, Path target) throws IOException {
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Creates a cell style with borders, shared by every cell written in one batch.
+     */
+    private static CellStyle createBorderStyle(Workbook wb) {
+        CellStyle style = wb.createCellStyle();
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+        return style;
+    }
+}
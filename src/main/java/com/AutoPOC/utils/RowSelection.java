@@ -0,0 +1,96 @@
+package com.AutoPOC.utils;
+
+import java.util.*;
+
+/**
+ * Which rows a data provider hands out: rows matching every column filter, then every
+ * {@code shardCount}-th of those starting at {@code shardIndex}. Shards are taken over the filtered
+ * rows in file order, so runs with the same data and filters split the rows without overlap.
+ *
+ * @param filters    Column → accepted values, compared trimmed and ignoring case; empty accepts every row
+ * @param shardIndex Shard of this run (zero-based)
+ * @param shardCount Number of shards; 1 disables sharding
+ */
+public record RowSelection(Map<String, Set<String>> filters, int shardIndex, int shardCount) {
+
+    public RowSelection {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid shard " + shardIndex + " of " + shardCount);
+        }
+        Map<String, Set<String>> normalized = new LinkedHashMap<>();
+        filters.forEach((column, values) -> {
+            Set<String> accepted = new HashSet<>();
+            values.forEach(value -> accepted.add(normalize(value)));
+            normalized.put(column, Set.copyOf(accepted));
+        });
+        filters = Collections.unmodifiableMap(normalized);
+    }
+
+    /**
+     * @return Selection of every row, unsharded
+     */
+    public static RowSelection all() {
+        return new RowSelection(Map.of(), 0, 1);
+    }
+
+    /**
+     * Reads the filter of a data provider from {@code dataprovider.<provider>.filter} and the shard from
+     * {@code dataprovider.shard.index} / {@code dataprovider.shard.count}.
+     *
+     * @param provider       Data provider name, e.g. "syntheticData"
+     * @param filterOverride Filter taking precedence over the config (e.g. a testng.xml parameter); blank or {@code null} to ignore
+     * @return Configured selection
+     */
+    public static RowSelection fromConfig(String provider, String filterOverride) {
+        String filter = filterOverride == null || filterOverride.isBlank()
+                ? ConfigReader.getProperty("dataprovider." + provider + ".filter", "")
+                : filterOverride;
+        return new RowSelection(parseFilters(filter),
+                ConfigReader.getInt("dataprovider.shard.index", 0),
+                ConfigReader.getInt("dataprovider.shard.count", 1));
+    }
+
+    /**
+     * Parses filters written as {@code Column=value|value;Column=value}, e.g. {@code Browser=chrome|edge;Application=demowebshop}.
+     *
+     * @param spec Filter text; blank for none
+     * @return Column → accepted values, in the order given
+     */
+    public static Map<String, Set<String>> parseFilters(String spec) {
+        Map<String, Set<String>> filters = new LinkedHashMap<>();
+        for (String entry : spec.split(";")) {
+            if (entry.isBlank()) continue;
+
+            int eq = entry.indexOf('=');
+            if (eq <= 0) throw new IllegalArgumentException("Invalid data provider filter (expected Column=value): " + entry.trim());
+            Set<String> values = new LinkedHashSet<>();
+            for (String value : entry.substring(eq + 1).split("\\|")) {
+                values.add(value.trim());
+            }
+            filters.put(entry.substring(0, eq).trim(), values);
+        }
+        return filters;
+    }
+
+    /**
+     * @param column Filtered column
+     * @param value  Row value
+     * @return {@code true} if the column is unfiltered or the value is accepted
+     */
+    public boolean accepts(String column, String value) {
+        Set<String> accepted = filters.get(column);
+        return accepted == null || accepted.contains(normalize(value));
+    }
+
+    /**
+     * @param ordinal Position of the row among the rows that passed the filters (zero-based)
+     * @return {@code true} if the row belongs to this run's shard
+     */
+    public boolean inShard(long ordinal) {
+        return ordinal % shardCount == shardIndex;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,144 @@
+package com.AutoPOC.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * On-disk cache of parsed sheets, shared across JVM runs.
+ * The first read of a sheet writes its {@link DataTable} as a binary snapshot under {@code excel.snapshot.dir},
+ * named after the workbook's location and SHA-256 content hash. Later runs memory-map the snapshot instead of unzipping and
+ * parsing the workbook. A changed workbook has a different hash, so its old snapshots are replaced.
+ */
+public class SheetSnapshots {
+
+    private static final Logger logger = LoggerFactory.getLogger(SheetSnapshots.class);
+
+    private static final boolean ENABLED = ConfigReader.getBoolean("excel.snapshot.enabled", true);
+    private static final Path DIR = Paths.get(ConfigReader.getProperty("excel.snapshot.dir", "target/excel-snapshots"));
+
+    /**
+     * Wraps a sheet parser with the snapshot cache, or returns it unchanged when snapshots are disabled.
+     *
+     * @param parser Loader that parses the workbook
+     * @param mode   Reader tag, part of the snapshot name so a snapshot is only reused by the parser that wrote it
+     * @return Snapshot-backed loader
+     */
+    public static ExcelSheetCache.Loader wrap(ExcelSheetCache.Loader parser, String mode) {
+        if (!ENABLED) return parser;
+        return (file, sheetName, headerRowIndex) -> load(file, sheetName, headerRowIndex, mode, parser);
+    }
+
+    private static ParsedSheet load(File file, String sheetName, int headerRowIndex, String mode,
+                                    ExcelSheetCache.Loader parser) throws IOException {
+        // The path hash keeps same-named workbooks in different directories from replacing each other's snapshots
+        String prefix = safeName(file.getName()) + "-" + pathHash(file) + "-" + safeName(sheetName)
+                + "-h" + headerRowIndex + "-" + mode + "-";
+        Path snapshot = DIR.resolve(prefix + contentHash(file) + ".snap");
+
+        if (Files.isRegularFile(snapshot)) {
+            try {
+                ParsedSheet sheet = new ParsedSheet(sheetName, map(snapshot));
+                logger.debug("Loaded sheet '{}' from snapshot {}", sheetName, snapshot.getFileName());
+                return sheet;
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Ignoring unreadable snapshot {}: {}", snapshot, e.getMessage());
+                Files.deleteIfExists(snapshot);
+            }
+        }
+
+        ParsedSheet sheet = parser.load(file, sheetName, headerRowIndex);
+        try {
+            write(snapshot, sheet.getTable());
+            removeStale(prefix, snapshot);
+        } catch (IOException e) {
+            logger.warn("Unable to write sheet snapshot {}: {}", snapshot, e.getMessage());
+        }
+        return sheet;
+    }
+
+    private static DataTable map(Path snapshot) throws IOException {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            return DataTable.readFrom(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes to a temporary file first, so concurrent runs never map a half-written snapshot.
+     */
+    private static void write(Path snapshot, DataTable table) throws IOException {
+        Files.createDirectories(DIR);
+        Path temp = Files.createTempFile(DIR, "snapshot-", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                table.writeTo(out);
+            }
+            Files.move(temp, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            logger.debug("Wrote sheet snapshot {} ({} rows)", snapshot.getFileName(), table.size());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Deletes snapshots of earlier versions of the same workbook sheet.
+     */
+    private static void removeStale(String prefix, Path current) {
+        try (DirectoryStream<Path> snapshots = Files.newDirectoryStream(DIR, prefix + "*.snap")) {
+            for (Path old : snapshots) {
+                if (old.equals(current)) continue;
+                try {
+                    Files.deleteIfExists(old);
+                } catch (IOException e) {
+                    // Still mapped by this JVM on some platforms; removed on a later run
+                    logger.debug("Unable to delete stale snapshot {}: {}", old, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to list snapshots in {}: {}", DIR, e.getMessage());
+        }
+    }
+
+    private static String contentHash(File file) throws IOException {
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            MessageDigest digest = sha256();
+            byte[] buffer = new byte[1 << 16];
+            for (int n; (n = in.read(buffer)) > 0; ) {
+                digest.update(buffer, 0, n);
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        }
+    }
+
+    /**
+     * @return Short hash of the workbook's absolute, normalized path
+     */
+    private static String pathHash(File file) {
+        byte[] path = file.toPath().toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8);
+        return HexFormat.of().formatHex(sha256().digest(path), 0, 4);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String safeName(String name) {
+        return name.replaceAll("[^A-Za-z0-9._]", "_");
+    }
+}
@@ -0,0 +1,194 @@
+package com.AutoPOC.utils;
+
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Records the duration of page-object actions and waits into per-thread latency histograms,
+ * tagged by page class, action name and locator. Test threads never contend with each other;
+ * histograms are merged only when a snapshot is taken at suite end.
+ */
+public class StepMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(StepMetrics.class);
+
+    private static final boolean ENABLED = ConfigReader.getBoolean("metrics.enabled", true);
+
+    private static final Queue<Map<Tag, LatencyHistogram>> allThreads = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Map<Tag, LatencyHistogram>> perThread = ThreadLocal.withInitial(() -> {
+        Map<Tag, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+        allThreads.add(histograms);
+        return histograms;
+    });
+
+    /**
+     * Identifies one kind of step.
+     */
+    public record Tag(String page, String action, String locator) {
+    }
+
+    /**
+     * Times a step that returns a value.
+     */
+    public static <T> T time(String page, String action, String locator, Supplier<T> step) {
+        if (!ENABLED) return step.get();
+
+        long start = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            record(page, action, locator, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Times a step without a return value.
+     */
+    public static void time(String page, String action, String locator, Runnable step) {
+        time(page, action, locator, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records an already measured duration.
+     *
+     * @param nanos Duration in nanoseconds
+     */
+    public static void record(String page, String action, String locator, long nanos) {
+        if (!ENABLED) return;
+        perThread.get().computeIfAbsent(new Tag(page, action, locator), t -> new LatencyHistogram())
+                .record(nanos / 1_000);
+    }
+
+    /**
+     * Short description of an element's locator, e.g. "By.xpath: //input[@value='Delete']".
+     */
+    public static String describe(WebElement element) {
+        String text = String.valueOf(element);
+        int by = text.indexOf("By.");
+        if (by >= 0) return text.substring(by).replaceAll("'$", "");
+        int arrow = text.indexOf("-> ");
+        return arrow >= 0 ? text.substring(arrow + 3).replaceAll("]$", "") : text;
+    }
+
+    /**
+     * Merges the histograms of all threads. Call once test threads have finished.
+     *
+     * @return Merged histograms ordered by page, action and locator
+     */
+    public static Map<Tag, LatencyHistogram> snapshot() {
+        Map<Tag, LatencyHistogram> merged = new TreeMap<>(
+                Comparator.comparing(Tag::page).thenComparing(Tag::action).thenComparing(Tag::locator));
+        for (Map<Tag, LatencyHistogram> histograms : allThreads) {
+            histograms.forEach((tag, h) -> merged.computeIfAbsent(tag, t -> new LatencyHistogram()).add(h));
+        }
+        return merged;
+    }
+
+    /**
+     * Logs a p50/p95/p99 table and writes step-metrics.csv and step-metrics.json to the given directory.
+     *
+     * @param outputDir Target directory, created if missing
+     */
+    public static void export(Path outputDir) {
+        if (!ENABLED) return;
+
+        Map<Tag, LatencyHistogram> merged = snapshot();
+        if (merged.isEmpty()) return;
+
+        // One row per histogram; the locator comes last since its width varies
+        StringBuilder table = new StringBuilder(String.format("%n%-32s %-24s %8s %10s %10s %10s %10s %10s  %s%n",
+                "Page", "Action", "Count", "Mean(ms)", "p50(ms)", "p95(ms)", "p99(ms)", "Max(ms)", "Locator"));
+        merged.forEach((tag, h) -> table.append(String.format("%-32s %-24s %8d %10.1f %10.1f %10.1f %10.1f %10.1f  %s%n",
+                tag.page(), tag.action(), h.getTotalCount(), h.getMean() / 1000.0,
+                ms(h.valueAtPercentile(50)), ms(h.valueAtPercentile(95)), ms(h.valueAtPercentile(99)), ms(h.getMax()),
+                tag.locator())));
+        logger.info("Step timings:{}", table);
+
+        try {
+            Files.createDirectories(outputDir);
+            writeCsv(outputDir.resolve("step-metrics.csv"), merged);
+            writeJson(outputDir.resolve("step-metrics.json"), merged);
+            logger.info("Step metrics exported to {}", outputDir.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to export step metrics", e);
+        }
+    }
+
+    private static void writeCsv(Path file, Map<Tag, LatencyHistogram> merged) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("page,action,locator,count,mean_ms,p50_ms,p95_ms,p99_ms,max_ms\n");
+            for (Map.Entry<Tag, LatencyHistogram> e : merged.entrySet()) {
+                Tag t = e.getKey();
+                LatencyHistogram h = e.getValue();
+                out.write(String.join(",", csv(t.page()), csv(t.action()), csv(t.locator()),
+                        String.valueOf(h.getTotalCount()), fmt(h.getMean() / 1000.0),
+                        fmt(ms(h.valueAtPercentile(50))), fmt(ms(h.valueAtPercentile(95))),
+                        fmt(ms(h.valueAtPercentile(99))), fmt(ms(h.getMax()))));
+                out.write("\n");
+            }
+        }
+    }
+
+    private static void writeJson(Path file, Map<Tag, LatencyHistogram> merged) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("[\n");
+            Iterator<Map.Entry<Tag, LatencyHistogram>> it = merged.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Tag, LatencyHistogram> e = it.next();
+                Tag t = e.getKey();
+                LatencyHistogram h = e.getValue();
+                out.write(String.format(Locale.ROOT,
+                        "  {\"page\": %s, \"action\": %s, \"locator\": %s, \"count\": %d, \"mean_ms\": %.3f, "
+                                + "\"p50_ms\": %.3f, \"p95_ms\": %.3f, \"p99_ms\": %.3f, \"max_ms\": %.3f}%s%n",
+                        json(t.page()), json(t.action()), json(t.locator()), h.getTotalCount(), h.getMean() / 1000.0,
+                        ms(h.valueAtPercentile(50)), ms(h.valueAtPercentile(95)), ms(h.valueAtPercentile(99)),
+                        ms(h.getMax()), it.hasNext() ? "," : ""));
+            }
+            out.write("]\n");
+        }
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String fmt(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String csv(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String json(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
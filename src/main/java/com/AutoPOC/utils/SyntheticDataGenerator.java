@@ -0,0 +1,168 @@
+package com.AutoPOC.utils;
+
+import com.github.javafaker.Faker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Generates synthetic order rows on demand with javafaker, as an alternative to hand-authored
+ * Synthetic_Data rows. Rows carry the headers the order flow reads (product path and billing details).
+ * <p>
+ * Generated Input IDs look like {@code Gen-42}. Row {@code n} depends only on {@code synthetic.generator.seed}
+ * and {@code n}: each thread has its own {@link Faker}, reseeded per row, so a row is identical whichever
+ * thread generates it and across runs with the same seed.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    public static final String ID_PREFIX = "Gen-";
+
+    private static final long SEED = ConfigReader.getLong("synthetic.generator.seed", 20250101L);
+    private static final int ROWS = ConfigReader.getInt("synthetic.generator.rows", 100);
+    private static final String APPLICATION = ConfigReader.getProperty("synthetic.generator.application", "demowebshop");
+
+    // Category > Sub-Category > Product title, separated by ';' (values may contain commas)
+    private static final String DEFAULT_CATALOG = "Computers>Desktops>Build your own expensive computer;"
+            + "Computers>Notebooks>14.1-inch Laptop;"
+            + "Electronics>Cell phones>Smartphone;"
+            + "Electronics>Camera, photo>Digital SLR Camera 12.2 Mpixel";
+    // Country: State|State..., separated by ';'; a country without states leaves State blank (picked at random on the page)
+    private static final String DEFAULT_COUNTRIES = "United States:California|Texas|New York|Florida|Washington;"
+            + "Canada:Ontario|Quebec|Alberta|British Columbia";
+
+    private static final List<String[]> CATALOG =
+            parse(ConfigReader.getProperty("synthetic.generator.catalog", DEFAULT_CATALOG), ">", 3, false);
+    private static final List<String[]> COUNTRIES =
+            parse(ConfigReader.getProperty("synthetic.generator.countries", DEFAULT_COUNTRIES), ":", 1, true);
+
+    /**
+     * Headers of a generated row, in Synthetic_Data column order.
+     */
+    public static final List<String> HEADERS = List.of("Application", "Test Case", TestDataKeys.INPUT_ID,
+            "Category", "Sub-Category", "Product title", "Country", "State", "Zip",
+            "Billing FirstName", "Billing LastName", "Email", "City", "Address 1", "Phone");
+
+    private static final ThreadLocal<Random> random = ThreadLocal.withInitial(Random::new);
+    private static final ThreadLocal<Faker> faker = ThreadLocal.withInitial(() -> new Faker(Locale.US, random.get()));
+
+    /**
+     * @param inputId Input ID to check
+     * @return {@code true} if the ID names a generated row
+     */
+    public static boolean isGeneratedId(String inputId) {
+        return inputId != null && inputId.trim().startsWith(ID_PREFIX);
+    }
+
+    /**
+     * Generates the row for a generated Input ID.
+     *
+     * @param inputId Input ID, e.g. "Gen-42"
+     * @return Read-only header-to-value map
+     */
+    public static Map<String, String> getRowById(String inputId) {
+        if (!isGeneratedId(inputId)) {
+            throw new IllegalArgumentException("Not a generated Input ID: " + inputId);
+        }
+        try {
+            return generate(Long.parseLong(inputId.trim().substring(ID_PREFIX.length())));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a generated Input ID: " + inputId, e);
+        }
+    }
+
+    /**
+     * Lazily supplies this shard's share of the {@code synthetic.generator.rows} Input IDs as a TestNG data provider,
+     * so sharded runs place disjoint orders. Rows themselves are generated when the test looks its ID up,
+     * on the test's own thread.
+     *
+     * @param selection Shard to supply; column filters do not apply to generated rows
+     * @return Iterator of {@code {inputId}} arrays
+     */
+    public static Iterator<Object[]> inputIds(RowSelection selection) {
+        logger.info("Generating {} synthetic rows (seed {}, shard {} of {})",
+                ROWS, SEED, selection.shardIndex() + 1, selection.shardCount());
+        return new Iterator<>() {
+            private int next = 1 + selection.shardIndex();
+
+            @Override
+            public boolean hasNext() {
+                return next <= ROWS;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                Object[] row = {ID_PREFIX + next};
+                next += selection.shardCount();
+                return row;
+            }
+        };
+    }
+
+    /**
+     * Generates row {@code index}.
+     *
+     * @param index Row number, starting at 1
+     * @return Read-only header-to-value map
+     */
+    public static Map<String, String> generate(long index) {
+        random.get().setSeed(SEED * 0x9E3779B97F4A7C15L + index);
+        Faker f = faker.get();
+
+        String[] product = CATALOG.get(f.random().nextInt(CATALOG.size()));
+        String[] country = COUNTRIES.get(f.random().nextInt(COUNTRIES.size()));
+        String state = country.length > 1 ? country[1 + f.random().nextInt(country.length - 1)] : "";
+        String first = f.name().firstName();
+        String last = f.name().lastName();
+
+        Map<String, String> row = new LinkedHashMap<>();
+        row.put("Application", APPLICATION);
+        row.put("Test Case", "Generated order " + index);
+        row.put(TestDataKeys.INPUT_ID, ID_PREFIX + index);
+        row.put("Category", product[0]);
+        row.put("Sub-Category", product[1]);
+        row.put("Product title", product[2]);
+        row.put("Country", country[0]);
+        row.put("State", state);
+        row.put("Zip", f.numerify("#####"));
+        row.put("Billing FirstName", first);
+        row.put("Billing LastName", last);
+        // The index keeps emails unique within a run even when names repeat
+        row.put("Email", (first + "." + last).toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9.]", "") + "." + index + "@example.com");
+        row.put("City", f.address().city());
+        row.put("Address 1", f.address().streetAddress());
+        row.put("Phone", f.numerify("##########"));
+        return Collections.unmodifiableMap(row);
+    }
+
+    /**
+     * Splits "a>b>c;d>e>f" style config into entries of at least {@code minParts} parts.
+     *
+     * @param splitStates Whether the parts after the first are further split on '|' (the states of a country entry)
+     */
+    private static List<String[]> parse(String value, String separator, int minParts, boolean splitStates) {
+        List<String[]> entries = new ArrayList<>();
+        for (String entry : value.split(";")) {
+            if (entry.isBlank()) continue;
+
+            List<String> parts = new ArrayList<>();
+            String[] segments = entry.split(Pattern.quote(separator));
+            for (int i = 0; i < segments.length; i++) {
+                String[] items = splitStates && i > 0 ? segments[i].split("\\|") : new String[]{segments[i]};
+                for (String item : items) {
+                    if (!item.isBlank()) parts.add(item.trim());
+                }
+            }
+            if (parts.size() < minParts) {
+                throw new IllegalArgumentException("Invalid synthetic generator entry: " + entry.trim());
+            }
+            entries.add(parts.toArray(String[]::new));
+        }
+        if (entries.isEmpty()) throw new IllegalArgumentException("Synthetic generator list is empty: " + value);
+        return List.copyOf(entries);
+    }
+}
@@ -1,48 +1,45 @@
 package com.AutoPOC.utils;
 
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 
 /**
- * Utility for reading synthetic input data from Excel.
+ * Utility for reading synthetic input data from the configured {@link TestDataSource} (xlsx by default).
  * Supports fetching by unique Input ID or listing all Input IDs for TestNG data providers.
  */
 public class SyntheticDataUtil {
 
-    private static final String FILE_PATH = ConfigReader.getProperty("Test_Data_File_Path");
     private static final String SHEET_NAME = ConfigReader.getProperty("Synthetic_Data_Sheet_Name");
-    private static final int INPUT_ID_COLUMN_IDX = 5; // Column F (zero-based)
+    private static final int HEADER_ROW_IDX = 1; // Header row is at index 1 (Excel row 2)
+    private static final TestDataSource SOURCE = TestDataSource.forSheet(SHEET_NAME, HEADER_ROW_IDX);
 
     /**
      * Retrieves a row of synthetic input data by matching the Input ID.
+     * Generated IDs (e.g. "Gen-42") are produced by {@link SyntheticDataGenerator} instead of read from the sheet.
      *
      * @param inputId Input ID value to look up (e.g., "Ip1")
      * @return Map of column name to cell value for the matched row
      */
     public static Map<String, String> getInputDataById(String inputId) {
-        return ExcelReaderUtil.getRowByKey(
-                FILE_PATH,
-                SHEET_NAME,
-                INPUT_ID_COLUMN_IDX,
-                inputId,
-                1 // Header row is at index 1 (Excel row 2)
-        );
+        if (SyntheticDataGenerator.isGeneratedId(inputId)) {
+            return SyntheticDataGenerator.getRowById(inputId);
+        }
+        Map<String, String> row = SOURCE.findRow(TestDataKeys.INPUT_ID, inputId);
+        if (row == null) {
+            throw new RuntimeException("No row found for key: " + inputId + " in sheet: " + SHEET_NAME);
+        }
+        return row;
     }
 
     /**
-     * Returns all Input IDs in the sheet as a 1D TestNG-compatible data provider array.
-     * Example output: { {"Ip1"}, {"Ip2"}, ... }
+     * Lazily supplies the selected Input IDs as a TestNG data provider iterator.
+     * Rows are streamed and only the Input ID and filtered columns are read, so the sheet is never materialized.
+     * Example output: {"Ip1"}, {"Ip2"}, ...
      *
-     * @return Object[][] containing all Input IDs in the sheet
+     * @param selection Row filters (e.g. on Application) and shard
+     * @return Iterator of {@code {inputId}} arrays
      */
-    public static Object[][] getAllInputIDs() {
-        List<Map<String, String>> rows = ExcelReaderUtil.getAllRows(FILE_PATH, SHEET_NAME);
-        Object[][] out = new Object[rows.size()][1];
-
-        for (int i = 0; i < rows.size(); i++) {
-            out[i][0] = rows.get(i).get("Input ID");
-        }
-
-        return out;
+    public static Iterator<Object[]> getInputIDs(RowSelection selection) {
+        return DataProviderUtil.keys(SOURCE, TestDataKeys.INPUT_ID, selection);
     }
 }
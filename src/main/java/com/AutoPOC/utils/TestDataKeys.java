@@ -1,7 +1,9 @@
 package com.AutoPOC.utils;
 
+import java.util.List;
+
 /**
- * Constant keys used for accessing common test data fields from Excel.
+ * Constant keys used for accessing common test data and result fields.
  * Ensures consistent usage of test data headers across the framework.
  */
 public class TestDataKeys {
@@ -12,6 +14,19 @@ public class TestDataKeys {
     public static final String BROWSER     = "Browser";
     public static final String URL         = "URL";
     public static final String APPLICATION = "Application";
+    public static final String INPUT_ID    = "Input ID";
+
+    // Result sheet (Transactional_Data) columns; "Row" is the row number column of csv/jsonl result files
+    public static final String ROW              = "Row";
+    public static final String RUN_ID           = "Run ID";
+    public static final String EXECUTION_DATE   = "Execution Date";
+    public static final String EXECUTION_TIME   = "Execution Time";
+    public static final String EXECUTION_STATUS = "Execution Status";
+    public static final String ORDER_ID         = "Order ID";
+    public static final String ORDER_DATE       = "Order Date";
+
+    public static final List<String> RESULT_COLUMNS =
+            List.of(ROW, RUN_ID, EXECUTION_DATE, EXECUTION_TIME, EXECUTION_STATUS, ORDER_ID, ORDER_DATE);
 
     private TestDataKeys() {
         // Prevent instantiation
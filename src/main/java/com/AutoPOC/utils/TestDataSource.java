@@ -0,0 +1,109 @@
+package com.AutoPOC.utils;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * One logical test-data sheet, independent of where it is stored.
+ * The backend is chosen per sheet with {@code datasource.<sheet name>}:
+ * <ul>
+ *     <li>{@code xlsx} (default): the sheet of that name in {@code Test_Data_File_Path}</li>
+ *     <li>{@code csv}: comma-separated file with a header line</li>
+ *     <li>{@code jsonl}: JSON Lines, one flat object per row</li>
+ * </ul>
+ * Text files are read from {@code datasource.<sheet name>.path}, by default {@code <datasource.dir>/<sheet name>.<csv|jsonl>},
+ * and written append-only.
+ */
+public interface TestDataSource {
+
+    /**
+     * @return Header names in column order
+     */
+    List<String> headers();
+
+    /**
+     * Finds the first row whose value under {@code keyHeader} matches, ignoring case and surrounding whitespace.
+     *
+     * @param keyHeader Header of the key column, e.g. "Input ID"
+     * @param key       Lookup value
+     * @return Read-only row map, or {@code null} if no row matches
+     */
+    Map<String, String> findRow(String keyHeader, String key);
+
+    /**
+     * Streams the data rows lazily. Close the stream if it is not fully consumed.
+     *
+     * @return Stream of read-only row maps
+     */
+    Stream<Map<String, String>> streamRows();
+
+    /**
+     * Streams only the given columns of each row, in the given order, so callers that need one or two
+     * columns do not pay for a full row map. A column the source does not have reads as an empty string.
+     * Close the stream if it is not fully consumed.
+     *
+     * @param columns Headers to project
+     * @return Stream of value arrays, one element per requested column
+     */
+    default Stream<String[]> streamColumns(List<String> columns) {
+        return streamRows().map(row -> {
+            String[] values = new String[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = row.getOrDefault(columns.get(i), "");
+            }
+            return values;
+        });
+    }
+
+    /**
+     * Records values for a result row. The xlsx backend patches the cells of that row in place;
+     * the text backends append one record tagged with the row number.
+     *
+     * @param rowIndex Result row index (zero-based), from {@link ResultRowAllocator}
+     * @param values   Header → value
+     */
+    void writeRow(int rowIndex, Map<String, String> values);
+
+    /**
+     * Creates the configured source for a sheet.
+     *
+     * @param sheetName      Sheet name, e.g. the value of {@code Synthetic_Data_Sheet_Name}
+     * @param headerRowIndex Header row of the xlsx sheet (zero-based); text files always start with their header
+     * @param newFileHeaders Header line of a csv file that does not exist yet; ignored by the other backends
+     * @return Data source
+     */
+    static TestDataSource forSheet(String sheetName, int headerRowIndex, List<String> newFileHeaders) {
+        String backend = ConfigReader.getProperty("datasource." + sheetName, "xlsx").toLowerCase(Locale.ROOT);
+        return switch (backend) {
+            case "xlsx" -> new XlsxDataSource(ConfigReader.getProperty("Test_Data_File_Path"), sheetName, headerRowIndex);
+            case "csv" -> new CsvDataSource(textPath(sheetName, "csv"), sheetName, newFileHeaders);
+            case "jsonl" -> new JsonLinesDataSource(textPath(sheetName, "jsonl"), sheetName);
+            default -> throw new IllegalArgumentException(
+                    "Unknown backend '" + backend + "' for datasource." + sheetName + " (expected xlsx, csv or jsonl)");
+        };
+    }
+
+    /**
+     * Creates the configured source for a read-only sheet.
+     */
+    static TestDataSource forSheet(String sheetName, int headerRowIndex) {
+        return forSheet(sheetName, headerRowIndex, List.of());
+    }
+
+    /**
+     * Creates the configured source for the result sheet ({@code Transactional_Data_Sheet_Name}, header row 1).
+     */
+    static TestDataSource results() {
+        return forSheet(ConfigReader.getProperty("Transactional_Data_Sheet_Name"), 1, TestDataKeys.RESULT_COLUMNS);
+    }
+
+    private static Path textPath(String sheetName, String extension) {
+        String explicit = ConfigReader.getProperty("datasource." + sheetName + ".path");
+        if (!explicit.isEmpty()) return Paths.get(explicit);
+        return Paths.get(ConfigReader.getProperty("datasource.dir", "src/test/resources/data"), sheetName + "." + extension);
+    }
+}
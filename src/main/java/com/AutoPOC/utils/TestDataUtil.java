@@ -1,34 +1,30 @@
 package com.AutoPOC.utils;
 
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 
 public class TestDataUtil {
 
-    private static final String FILE_PATH  = ConfigReader.getProperty("Test_Data_File_Path");
     private static final String SHEET_NAME = ConfigReader.getProperty("Login_Data_Sheet_Name");
+    private static final TestDataSource SOURCE = TestDataSource.forSheet(SHEET_NAME, /* headerRowIndex */ 0);
 
     /** Lookup a single row by TestID in Common_TestData */
     public static Map<String, String> getTestCaseByTestID(String testID) {
-        return ExcelReaderUtil.getRowByKey(
-                FILE_PATH,
-                SHEET_NAME,
-                /* keyColumnIndex */ 0,
-                testID,
-                /* headerRowIndex */ 0
-        );
+        Map<String, String> row = SOURCE.findRow(TestDataKeys.TEST_ID, testID);
+        if (row == null) {
+            throw new RuntimeException("No row found for key: " + testID + " in sheet: " + SHEET_NAME);
+        }
+        return row;
     }
 
     /**
-     * Returns every TestID (first column) as a DataProvider array.
-     * e.g. { { "1" }, { "2" }, … }
+     * Lazily supplies the selected TestIDs as a DataProvider iterator, reading only the columns it needs.
+     * e.g. { "1" }, { "2" }, …
+     *
+     * @param selection Row filters (e.g. on Browser) and shard
+     * @return Iterator of {@code {testID}} arrays
      */
-    public static Object[][] getAllTestIDs() {
-        List<Map<String, String>> rows = ExcelReaderUtil.getAllRows(FILE_PATH, SHEET_NAME);
-        Object[][] out = new Object[rows.size()][1];
-        for (int i = 0; i < rows.size(); i++) {
-            out[i][0] = rows.get(i).get("TestID");
-        }
-        return out;
+    public static Iterator<Object[]> getTestIDs(RowSelection selection) {
+        return DataProviderUtil.keys(SOURCE, TestDataKeys.TEST_ID, selection);
     }
 }
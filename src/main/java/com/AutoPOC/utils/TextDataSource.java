@@ -0,0 +1,172 @@
+package com.AutoPOC.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Shared logic of the line-based {@link TestDataSource} backends.
+ * Keyed lookups go through {@link ExcelSheetCache} and {@link SheetSnapshots} like xlsx sheets, so a file
+ * is parsed once per change; {@link #streamRows()} reads the file lazily through a buffered NIO reader.
+ * Writes append one line per call through a channel opened in append mode.
+ */
+public abstract class TextDataSource implements TestDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextDataSource.class);
+
+    // Appends to one file are serialized across all sources of this JVM
+    private static final Map<Path, Object> appendLocks = new ConcurrentHashMap<>();
+
+    protected final Path file;
+    protected final String sheetName;
+
+    protected TextDataSource(Path file, String sheetName) {
+        this.file = file.toAbsolutePath().normalize();
+        this.sheetName = sheetName;
+    }
+
+    /**
+     * @return File format, e.g. "csv"; part of the snapshot name
+     */
+    protected abstract String format();
+
+    /**
+     * Parses the whole file into a sheet. Used on a cache miss.
+     */
+    protected abstract ParsedSheet parse(File source, String name, int headerRowIndex) throws IOException;
+
+    /**
+     * @return Iterator over the rows of an open reader, positioned at the start of the file
+     */
+    protected abstract Iterator<Map<String, String>> rows(BufferedReader reader) throws IOException;
+
+    /**
+     * @return First lines of a new file (e.g. the CSV header, with line separator), or an empty string
+     */
+    protected abstract String prologue();
+
+    /**
+     * @return One record as a single line, without line separator
+     */
+    protected abstract String line(int rowIndex, Map<String, String> values);
+
+    @Override
+    public List<String> headers() {
+        return Files.exists(file) ? sheet().getHeaders() : List.of();
+    }
+
+    @Override
+    public Map<String, String> findRow(String keyHeader, String key) {
+        if (!Files.exists(file)) return null;
+
+        ParsedSheet sheet = sheet();
+        int col = sheet.getHeaders().indexOf(keyHeader);
+        if (col < 0) throw new IllegalArgumentException("No column '" + keyHeader + "' in " + file);
+        return sheet.findRow(col, key);
+    }
+
+    @Override
+    public Stream<Map<String, String>> streamRows() {
+        return stream(this::rows);
+    }
+
+    @Override
+    public Stream<String[]> streamColumns(List<String> columns) {
+        return stream(reader -> columns(reader, columns));
+    }
+
+    /**
+     * @return Iterator over the given columns of an open reader, positioned at the start of the file.
+     * Projects full row maps by default; backends that can pick fields without building maps override it.
+     */
+    protected Iterator<String[]> columns(BufferedReader reader, List<String> columns) throws IOException {
+        Iterator<Map<String, String>> rows = rows(reader);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public String[] next() {
+                Map<String, String> row = rows.next();
+                return columns.stream().map(column -> row.getOrDefault(column, "")).toArray(String[]::new);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ReaderIterator<T> {
+        Iterator<T> open(BufferedReader reader) throws IOException;
+    }
+
+    /**
+     * Opens the file and streams the iterator over it lazily; closing the stream closes the reader.
+     */
+    private <T> Stream<T> stream(ReaderIterator<T> iterator) {
+        if (!Files.exists(file)) return Stream.empty();
+        try {
+            BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+            try {
+                Iterator<T> it = iterator.open(reader);
+                return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                        .onClose(() -> {
+                            try {
+                                reader.close();
+                            } catch (IOException e) {
+                                logger.debug("Error closing {}: {}", file, e.getMessage());
+                            }
+                        });
+            } catch (IOException | RuntimeException e) {
+                reader.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading " + file, e);
+        }
+    }
+
+    @Override
+    public void writeRow(int rowIndex, Map<String, String> values) {
+        byte[] record = (line(rowIndex, values) + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        synchronized (appendLocks.computeIfAbsent(file, f -> new Object())) {
+            try {
+                Files.createDirectories(file.getParent());
+                try (FileChannel channel = FileChannel.open(file,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    if (channel.size() == 0) {
+                        writeFully(channel, prologue().getBytes(StandardCharsets.UTF_8));
+                    }
+                    writeFully(channel, record);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error appending to " + file, e);
+            }
+        }
+    }
+
+    private ParsedSheet sheet() {
+        return ExcelSheetCache.get(file.toString(), sheetName, 0, SheetSnapshots.wrap(this::parse, format()));
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.AutoPOC.utils;
+
+import org.openqa.selenium.*;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-driver wait engine used by the page objects.
+ * Wait instances are cached per timeout and poll adaptively: they start with a short interval
+ * and back off towards a ceiling, so conditions that are already (or almost) true return quickly
+ * without hammering the driver on slow ones. Several JavaScript predicates can be checked
+ * together in a single {@code executeScript} round trip.
+ */
+public final class WaitEngine {
+
+    private static final long INITIAL_POLL_MS = ConfigReader.getLong("wait.poll.initial.ms", 50);
+    private static final long MAX_POLL_MS = ConfigReader.getLong("wait.poll.max.ms", 500);
+    private static final double BACKOFF = ConfigReader.getDouble("wait.poll.backoff", 1.5);
+
+    private static final Map<WebDriver, WaitEngine> engines = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Weak so the engine does not keep its own WeakHashMap key (the session) alive
+    private final WeakReference<WebDriver> driver;
+    private final Map<Long, AdaptiveWait> waits = new ConcurrentHashMap<>();
+
+    private WaitEngine(WebDriver driver) {
+        this.driver = new WeakReference<>(driver);
+    }
+
+    /**
+     * @param driver WebDriver session
+     * @return The engine bound to that session, created on first use
+     */
+    public static WaitEngine forDriver(WebDriver driver) {
+        return engines.computeIfAbsent(driver, WaitEngine::new);
+    }
+
+    /**
+     * @param timeoutSeconds Timeout in seconds
+     * @return Cached wait for that timeout
+     */
+    public Wait<WebDriver> withTimeout(int timeoutSeconds) {
+        return waits.computeIfAbsent((long) timeoutSeconds, t -> new AdaptiveWait(driver, Duration.ofSeconds(t)));
+    }
+
+    /**
+     * Waits until the condition returns a non-null, non-false value.
+     *
+     * @param condition      Condition to evaluate
+     * @param timeoutSeconds Timeout in seconds
+     * @return Condition result
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, int timeoutSeconds) {
+        return withTimeout(timeoutSeconds).until(condition);
+    }
+
+    /**
+     * Waits until every JavaScript predicate is truthy. All predicates are evaluated together
+     * in one {@code executeScript} call per poll.
+     *
+     * @param timeoutSeconds Timeout in seconds
+     * @param jsPredicates   JavaScript boolean expressions, e.g. {@code "document.readyState === 'complete'"}
+     * @throws TimeoutException if the predicates are not all true in time
+     */
+    public void untilAllJs(int timeoutSeconds, String... jsPredicates) {
+        StringJoiner script = new StringJoiner(") && (", "return !!((", "));");
+        for (String predicate : jsPredicates) script.add(predicate);
+        String js = script.toString();
+
+        until(d -> Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(js)) ? Boolean.TRUE : null, timeoutSeconds);
+    }
+
+    /**
+     * Immutable, thread-safe wait with back-off polling. Ignores {@link NotFoundException}
+     * and {@link StaleElementReferenceException} while polling, like {@code WebDriverWait}.
+     */
+    private static final class AdaptiveWait implements Wait<WebDriver> {
+
+        private final WeakReference<WebDriver> driver;
+        private final Duration timeout;
+
+        AdaptiveWait(WeakReference<WebDriver> driver, Duration timeout) {
+            this.driver = driver;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public <T> T until(Function<? super WebDriver, T> isTrue) {
+            WebDriver webDriver = driver.get();
+            if (webDriver == null) throw new IllegalStateException("WebDriver session is no longer available");
+
+            long deadline = System.nanoTime() + timeout.toNanos();
+            long interval = INITIAL_POLL_MS;
+            RuntimeException lastError = null;
+
+            while (true) {
+                try {
+                    T value = isTrue.apply(webDriver);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        return value;
+                    }
+                    lastError = null;
+                } catch (NotFoundException | StaleElementReferenceException e) {
+                    lastError = e;
+                }
+
+                long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMs <= 0) {
+                    throw new TimeoutException(String.format(
+                            "Expected condition failed: waiting for %s (tried for %d second(s) with adaptive polling)",
+                            isTrue, timeout.getSeconds()), lastError);
+                }
+
+                try {
+                    Thread.sleep(Math.min(interval, remainingMs));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new WebDriverException(e);
+                }
+                interval = Math.min((long) (interval * BACKOFF), MAX_POLL_MS);
+            }
+        }
+    }
+}
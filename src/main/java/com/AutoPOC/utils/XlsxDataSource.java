@@ -0,0 +1,105 @@
+package com.AutoPOC.utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * {@link TestDataSource} backed by a sheet of an Excel workbook, read through {@link ExcelReaderUtil}.
+ * Rows can only be written to the result sheet ({@code Transactional_Data_Sheet_Name}), through {@link ResultSheetWriter}.
+ */
+public class XlsxDataSource implements TestDataSource {
+
+    private final String filePath;
+    private final String sheetName;
+    private final int headerRowIndex;
+    // Header -> column index of the result sheet, resolved on the first write. Writes only add data rows,
+    // so the header row does not change while the writer keeps rewriting the file.
+    private volatile Map<String, Integer> writeColumns;
+
+    /**
+     * @param filePath       Path to the Excel file
+     * @param sheetName      Sheet to read
+     * @param headerRowIndex Header row index (zero-based)
+     */
+    public XlsxDataSource(String filePath, String sheetName, int headerRowIndex) {
+        this.filePath = filePath;
+        this.sheetName = sheetName;
+        this.headerRowIndex = headerRowIndex;
+    }
+
+    @Override
+    public List<String> headers() {
+        return sheet().getHeaders();
+    }
+
+    @Override
+    public Map<String, String> findRow(String keyHeader, String key) {
+        ParsedSheet sheet = sheet();
+        return sheet.findRow(columnOf(sheet, keyHeader), key);
+    }
+
+    @Override
+    public Stream<Map<String, String>> streamRows() {
+        return ExcelReaderUtil.streamRows(filePath, sheetName, headerRowIndex);
+    }
+
+    @Override
+    public Stream<String[]> streamColumns(List<String> columns) {
+        return ExcelReaderUtil.streamColumns(filePath, sheetName, headerRowIndex, columns);
+    }
+
+    @Override
+    public void writeRow(int rowIndex, Map<String, String> values) {
+        if (!sheetName.equals(ConfigReader.getProperty("Transactional_Data_Sheet_Name"))) {
+            throw new UnsupportedOperationException("xlsx rows can only be written to the result sheet, not " + sheetName);
+        }
+
+        // Resolve columns now, so a missing header fails the caller rather than the writer thread
+        Map<String, Integer> columns = writeColumns();
+        Map<Integer, String> cells = new LinkedHashMap<>();
+        values.forEach((header, value) -> {
+            Integer col = columns.get(header);
+            if (col == null) throw new IllegalArgumentException("No column '" + header + "' in sheet: " + sheetName);
+            cells.put(col, value);
+        });
+
+        ResultSheetWriter.enqueue(rowIndex, "row " + (rowIndex + 1) + " " + values.keySet(),
+                (s, row, style) -> cells.forEach((col, value) -> setCell(row, col, value, style)));
+    }
+
+    private ParsedSheet sheet() {
+        return ExcelReaderUtil.getParsedSheet(filePath, sheetName, headerRowIndex);
+    }
+
+    private Map<String, Integer> writeColumns() {
+        Map<String, Integer> columns = writeColumns;
+        if (columns == null) {
+            List<String> headers = sheet().getHeaders();
+            columns = new HashMap<>();
+            for (int i = 0; i < headers.size(); i++) {
+                columns.putIfAbsent(headers.get(i), i);
+            }
+            writeColumns = columns;
+        }
+        return columns;
+    }
+
+    private int columnOf(ParsedSheet sheet, String header) {
+        int col = sheet.getHeaders().indexOf(header);
+        if (col < 0) throw new IllegalArgumentException("No column '" + header + "' in sheet: " + sheetName);
+        return col;
+    }
+
+    private static void setCell(Row row, int colIndex, String value, CellStyle style) {
+        Cell cell = row.createCell(colIndex);
+        cell.setCellValue(value);
+        cell.setCellStyle(style);
+    }
+}
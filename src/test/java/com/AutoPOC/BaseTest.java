@@ -3,18 +3,24 @@ package com.AutoPOC;
 import com.AutoPOC.pages.AddProductsToCartAndPlaceOrder;
 import com.AutoPOC.pages.LoginPage;
 import com.AutoPOC.pages.OrderInformationPage;
+import com.AutoPOC.server.LocalShopServer;
 import com.AutoPOC.utils.*;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
+import org.testng.Reporter;
 import org.testng.annotations.*;
 
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
 
 /**
@@ -26,15 +32,20 @@ public class BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
     private static Instant startTime;
 
-    protected WebDriver driver;
-    protected LoginPage loginPage;
-    protected AddProductsToCartAndPlaceOrder addProductsToCartAndPlaceOrder;
-    protected OrderInformationPage orderInformationPage;
+    // Page objects are thread-confined so data-provider rows can run in parallel on one test instance
+    private final ThreadLocal<LoginPage> loginPage = new ThreadLocal<>();
+    private final ThreadLocal<AddProductsToCartAndPlaceOrder> addProductsToCartAndPlaceOrder = new ThreadLocal<>();
+    private final ThreadLocal<OrderInformationPage> orderInformationPage = new ThreadLocal<>();
 
     @BeforeSuite
     public void suiteSetup() {
         startTime = Instant.now();
         logger.info("Test Execution Started at: {}", getCurrentTime());
+        if (LocalShopServer.isEnabled()) {
+            LocalShopServer.start();
+        }
+        DriverPool.prewarm(ConfigReader.getProperty("browser", "chrome"),
+                ConfigReader.getInt("driver.pool.prewarm", 0));
     }
 
     @BeforeMethod
@@ -48,6 +59,7 @@ public class BaseTest {
      */
     @Test(dataProvider = "testData")
     public void executeTestForTestID(String testID, ITestContext context) {
+        MDC.put("TestID", testID);
         logger.info("Fetching test data for TestID: {}", testID);
 
         Map<String, String> testData = TestDataUtil.getTestCaseByTestID(testID);
@@ -56,19 +68,24 @@ public class BaseTest {
         }
 
         String browser = testData.getOrDefault(TestDataKeys.BROWSER, "chrome");
-        String testURL = testData.getOrDefault(TestDataKeys.URL, "about:blank");
+        String testURL = LocalShopServer.isRunning()
+                ? LocalShopServer.getBaseUrl()
+                : testData.getOrDefault(TestDataKeys.URL, "about:blank");
         String username = testData.get(TestDataKeys.USERNAME);
         String password = testData.get(TestDataKeys.PASSWORD);
 
         logger.info("Running TestID={} on browser={}", testID, browser);
         logger.info("URL: {}", testURL);
 
-        context.setAttribute("TestID", testID);
-        context.setAttribute("Browser", browser);
+        ITestResult current = Reporter.getCurrentTestResult();
+        if (current != null) {
+            current.setAttribute("TestID", testID);
+            current.setAttribute("Browser", browser);
+        }
 
         try {
             DriverFactory.initializeDriver(browser);
-            driver = DriverFactory.getDriver();
+            WebDriver driver = DriverFactory.getDriver();
             driver.get(testURL);
             logger.info("Navigated to: {}", testURL);
         } catch (Exception e) {
@@ -76,12 +93,12 @@ public class BaseTest {
             throw new RuntimeException(e);
         }
 
-        loginPage = new LoginPage();
-        addProductsToCartAndPlaceOrder = new AddProductsToCartAndPlaceOrder();
-        orderInformationPage = new OrderInformationPage();
+        loginPage.set(new LoginPage());
+        addProductsToCartAndPlaceOrder.set(new AddProductsToCartAndPlaceOrder());
+        orderInformationPage.set(new OrderInformationPage());
 
         try {
-            loginPage.login(username, password);
+            loginPage.get().login(username, password);
             logger.info("Logged in as {}", username);
         } catch (Exception e) {
             logger.error("Login failed for {}", username, e);
@@ -91,18 +108,16 @@ public class BaseTest {
 
     @AfterMethod(alwaysRun = true)
     public void recordExecutionData(ITestResult result) {
-        if (orderInformationPage != null) {
-            try {
-                Object attr = result.getTestContext().getAttribute("ExcelRowIndex");
-                if (attr instanceof Integer rowIndex) {
-                    ExecutionDataUtil.writeExecutionData(rowIndex, result);
-                    logger.info("Execution data recorded at row {}", rowIndex + 1);
-                } else {
-                    logger.warn("ExcelRowIndex not found in context. Skipping writeExecutionData.");
-                }
-            } catch (Exception e) {
-                logger.error("Failed to write execution data", e);
+        try {
+            Object attr = result.getAttribute("ExcelRowIndex");
+            if (attr instanceof Integer rowIndex) {
+                ExecutionDataUtil.writeExecutionData(rowIndex, result);
+                logger.info("Execution data recorded at row {}", rowIndex + 1);
+            } else {
+                logger.warn("ExcelRowIndex not found in test result. Skipping writeExecutionData.");
             }
+        } catch (Exception e) {
+            logger.error("Failed to write execution data", e);
         }
     }
 
@@ -118,22 +133,88 @@ public class BaseTest {
     @AfterMethod
     public void clearContext() {
         TestContextManager.clear();
+        MDC.clear();
+        loginPage.remove();
+        addProductsToCartAndPlaceOrder.remove();
+        orderInformationPage.remove();
+    }
+
+    /**
+     * Releases data-provider readers TestNG stopped pulling from before the end, even if the suite was aborted.
+     */
+    @AfterSuite(alwaysRun = true)
+    public void closeDataProviders() {
+        DataProviderUtil.closeAll();
     }
 
     @AfterSuite
     public void suiteTearDown() {
+        ResultSheetWriter.shutdown();
+        ResultRowAllocator.saveSidecar();
+        DriverPool.shutdown();
+        RemoteNodes.shutdown();
+        LocalShopServer.stop();
         logger.info("Test Execution Ended at: {}", getCurrentTime());
         logger.info("Total Execution Time: {}", getExecutionDuration());
+        DriverBinaryResolver.getResolutions().values().forEach(r ->
+                logger.info("Driver resolution: {} took {} ms via {}", r.browser(), r.millis(), r.source()));
+        StepMetrics.export(Paths.get(ConfigReader.getProperty("metrics.output.dir", "target/step-metrics")));
     }
 
+    /**
+     * Streams the TestIDs of the login sheet, filtered by {@code dataprovider.testData.filter} and sharded.
+     */
     @DataProvider(name = "testData")
-    public Object[][] getTestData() {
-        return TestDataUtil.getAllTestIDs();
+    public Iterator<Object[]> getTestData(ITestContext context) {
+        return TestDataUtil.getTestIDs(selection("testData", context));
+    }
+
+    /**
+     * Streams the Input IDs of the synthetic sheet, run in parallel on the data-provider thread pool.
+     * Rows are filtered by {@code dataprovider.syntheticData.filter} and sharded.
+     * An optional "inputID" test parameter (comma-separated) restricts the run to those IDs.
+     */
+    @DataProvider(name = "syntheticData", parallel = true)
+    public Iterator<Object[]> syntheticData(ITestContext context) {
+        String filter = context.getCurrentXmlTest().getParameter("inputID");
+        if (filter == null || filter.isBlank()) {
+            return SyntheticDataUtil.getInputIDs(selection("syntheticData", context));
+        }
+        return Arrays.stream(filter.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(id -> new Object[]{id})
+                .iterator();
+    }
+
+    /**
+     * Supplies generated Input IDs lazily, run in parallel on the data-provider thread pool.
+     * Each row is generated on the test's own thread when its ID is looked up.
+     */
+    @DataProvider(name = "generatedData", parallel = true)
+    public Iterator<Object[]> generatedData(ITestContext context) {
+        return SyntheticDataGenerator.inputIds(selection("generatedData", context));
+    }
+
+    /**
+     * Row selection of a data provider; a "{@code <provider>.filter}" test parameter overrides the configured filter.
+     */
+    private static RowSelection selection(String provider, ITestContext context) {
+        return RowSelection.fromConfig(provider, context.getCurrentXmlTest().getParameter(provider + ".filter"));
+    }
+
+    // ─── Thread-confined Page Objects ───────────────────────────────────
+
+    protected LoginPage getLoginPage() {
+        return loginPage.get();
+    }
+
+    protected AddProductsToCartAndPlaceOrder getAddProductsToCartAndPlaceOrder() {
+        return addProductsToCartAndPlaceOrder.get();
     }
 
-    @DataProvider(name = "syntheticData")
-    public Object[][] syntheticData() {
-        return SyntheticDataUtil.getAllInputIDs();
+    protected OrderInformationPage getOrderInformationPage() {
+        return orderInformationPage.get();
     }
 
     // ─── Utility Methods ────────────────────────────────────────────────
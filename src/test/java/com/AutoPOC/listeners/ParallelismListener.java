@@ -0,0 +1,31 @@
+package com.AutoPOC.listeners;
+
+import com.AutoPOC.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies the configured degree of parallelism to the suite before it runs.
+ * When {@code parallel.thread.count} is set, it overrides the suite's data-provider thread count,
+ * so the number of concurrent browsers can be changed without editing testng.xml.
+ */
+public class ParallelismListener implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelismListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        // Blank or unset keeps the testng.xml value
+        int count = ConfigReader.getInt("parallel.thread.count", 0);
+        if (count <= 0) return;
+
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(count);
+            logger.info("Suite '{}' data-provider thread count set to {}", suite.getName(), count);
+        }
+    }
+}
@@ -1,22 +1,35 @@
 package com.AutoPOC.tests;
 
 import com.AutoPOC.BaseTest;
+import com.AutoPOC.pages.AddProductsToCartAndPlaceOrder;
+import com.AutoPOC.pages.OrderInformationPage;
 import com.AutoPOC.utils.*;
+import org.slf4j.MDC;
 import org.testng.ITestContext;
 import org.testng.Reporter;
-import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
 import java.util.Map;
 
 public class OrderTest extends BaseTest {
 
-    @Test(description = "Place order for a specific synthetic data row")
-    @Parameters("inputID")
-    public void addProductsToCart(String inputID, ITestContext context) throws InterruptedException {
+    @Test(description = "Place order for a synthetic data row", dataProvider = "syntheticData")
+    public void addProductsToCart(String inputID, ITestContext context) {
+        placeOrder(inputID, context);
+    }
+
+    @Test(description = "Place order for a generated data row", dataProvider = "generatedData")
+    public void addProductsToCartGenerated(String inputID, ITestContext context) {
+        placeOrder(inputID, context);
+    }
+
+    private void placeOrder(String inputID, ITestContext context) {
+        MDC.put("InputID", inputID);
         executeTestForTestID("1", context);
         Map<String, String> inputData = SyntheticDataUtil.getInputDataById(inputID);
         TestContextManager.setInputData(inputData);
+        AddProductsToCartAndPlaceOrder addProductsToCartAndPlaceOrder = getAddProductsToCartAndPlaceOrder();
+        OrderInformationPage orderInformationPage = getOrderInformationPage();
         addProductsToCartAndPlaceOrder.deleteAddress();
         addProductsToCartAndPlaceOrder.addToCartAndGoToCart();
         addProductsToCartAndPlaceOrder.clickOnEstimateShippingButton();
@@ -29,13 +42,8 @@ public class OrderTest extends BaseTest {
         addProductsToCartAndPlaceOrder.verifyOrderSuccessMessage();
         orderInformationPage.clickOrderDetailsLink();
         // Capture and write order info to Excel
-        int rowIndex = ExcelReaderUtil.findNextAvailableRow(
-                ExcelReaderUtil.getSheet(
-                        ConfigReader.getProperty("Test_Data_File_Path"),
-                        ConfigReader.getProperty("Transactional_Data_Sheet_Name")
-                )
-        );
-        context.setAttribute("ExcelRowIndex", rowIndex); // store in context
+        int rowIndex = ResultRowAllocator.reserveRow();
+        Reporter.getCurrentTestResult().setAttribute("ExcelRowIndex", rowIndex); // store on this test's result
         orderInformationPage.saveDetailsToExcel(rowIndex);
     }
 }
@@ -0,0 +1,128 @@
+package com.AutoPOC.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link CsvDataSource}: RFC 4180 record parsing, streaming and append-only writes.
+ */
+public class CsvDataSourceTest {
+
+    @Test
+    public void readRecordSplitsAndTrimsPlainFields() throws IOException {
+        BufferedReader reader = reader(" a , b ,c\n");
+
+        Assert.assertEquals(CsvDataSource.readRecord(reader), new String[]{"a", "b", "c"});
+        Assert.assertNull(CsvDataSource.readRecord(reader));
+    }
+
+    @Test
+    public void readRecordKeepsEmptyFields() throws IOException {
+        Assert.assertEquals(CsvDataSource.readRecord(reader("a,,b,\n")), new String[]{"a", "", "b", ""});
+    }
+
+    @Test
+    public void readRecordHandlesQuotedCommasAndEscapedQuotes() throws IOException {
+        BufferedReader reader = reader("\"Camera, photo\",\"say \"\"hi\"\"\",\"\"\n");
+
+        Assert.assertEquals(CsvDataSource.readRecord(reader), new String[]{"Camera, photo", "say \"hi\"", ""});
+    }
+
+    @Test
+    public void readRecordJoinsLinesOfQuotedField() throws IOException {
+        BufferedReader reader = reader("1,\"line one\nline two\",x\n2,single,y\n");
+
+        Assert.assertEquals(CsvDataSource.readRecord(reader), new String[]{"1", "line one\nline two", "x"});
+        Assert.assertEquals(CsvDataSource.readRecord(reader), new String[]{"2", "single", "y"});
+        Assert.assertNull(CsvDataSource.readRecord(reader));
+    }
+
+    @Test
+    public void readRecordSkipsBlankLines() throws IOException {
+        BufferedReader reader = reader("\n   \na,b\n\n");
+
+        Assert.assertEquals(CsvDataSource.readRecord(reader), new String[]{"a", "b"});
+        Assert.assertNull(CsvDataSource.readRecord(reader));
+    }
+
+    @Test
+    public void readRecordKeepsUnterminatedQuote() throws IOException {
+        Assert.assertEquals(CsvDataSource.readRecord(reader("a,\"open\nstill open")), new String[]{"a", "open\nstill open"});
+    }
+
+    @Test
+    public void streamRowsMapsRecordsToHeaders() throws IOException {
+        Path file = tempFile("Input ID,Country,State\nIp1,United States,California\nIp2,Canada\n");
+        CsvDataSource source = new CsvDataSource(file, "Synthetic_Data", List.of());
+
+        List<Map<String, String>> rows;
+        try (Stream<Map<String, String>> stream = source.streamRows()) {
+            rows = stream.toList();
+        }
+
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(rows.get(0).get("Country"), "United States");
+        Assert.assertEquals(rows.get(1).get("State"), "", "short record");
+    }
+
+    @Test
+    public void streamColumnsProjectsRequestedColumns() throws IOException {
+        Path file = tempFile("TestID,URL,Browser\n1,http://a,chrome\n2,\"http://b,c\",edge\n");
+        CsvDataSource source = new CsvDataSource(file, "Common_TestData", List.of());
+
+        List<String[]> rows;
+        try (Stream<String[]> stream = source.streamColumns(List.of("Browser", "TestID", "Missing"))) {
+            rows = stream.toList();
+        }
+
+        Assert.assertEquals(rows.get(0), new String[]{"chrome", "1", ""});
+        Assert.assertEquals(rows.get(1), new String[]{"edge", "2", ""});
+    }
+
+    @Test
+    public void writeRowStartsFileWithHeadersAndQuotesValues() throws IOException {
+        Path file = Files.createTempDirectory("csv").resolve("results.csv");
+        CsvDataSource source = new CsvDataSource(file, "Transactional_Data", TestDataKeys.RESULT_COLUMNS);
+
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(TestDataKeys.RUN_ID, "R1");
+        values.put(TestDataKeys.EXECUTION_STATUS, "Fail, \"timeout\"");
+        source.writeRow(7, values);
+
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            Assert.assertEquals(CsvDataSource.readRecord(reader), TestDataKeys.RESULT_COLUMNS.toArray(String[]::new));
+            String[] record = CsvDataSource.readRecord(reader);
+            Assert.assertEquals(record[TestDataKeys.RESULT_COLUMNS.indexOf(TestDataKeys.ROW)], "7");
+            Assert.assertEquals(record[TestDataKeys.RESULT_COLUMNS.indexOf(TestDataKeys.RUN_ID)], "R1");
+            Assert.assertEquals(record[TestDataKeys.RESULT_COLUMNS.indexOf(TestDataKeys.EXECUTION_STATUS)], "Fail, \"timeout\"");
+            Assert.assertEquals(record[TestDataKeys.RESULT_COLUMNS.indexOf(TestDataKeys.ORDER_ID)], "");
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void writeRowRejectsUnknownColumns() throws IOException {
+        Path file = Files.createTempDirectory("csv").resolve("results.csv");
+        new CsvDataSource(file, "Transactional_Data", TestDataKeys.RESULT_COLUMNS).writeRow(1, Map.of("Unknown", "x"));
+    }
+
+    private static BufferedReader reader(String text) {
+        return new BufferedReader(new StringReader(text));
+    }
+
+    private static Path tempFile(String content) throws IOException {
+        Path file = Files.createTempFile("data", ".csv");
+        Files.writeString(file, content);
+        file.toFile().deleteOnExit();
+        return file;
+    }
+}
@@ -0,0 +1,85 @@
+package com.AutoPOC.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link DataTable} and its binary snapshot format.
+ */
+public class DataTableTest {
+
+    @Test
+    public void snapshotRoundTripKeepsEveryCell() throws IOException {
+        DataTable.Builder builder = DataTable.builder(List.of("Country", "Email", "Note"));
+        for (int r = 0; r < 50; r++) {
+            // Country repeats (dictionary column), Email is unique (plain column), Note mixes empty and non-ASCII values
+            builder.addRow(new String[]{r % 2 == 0 ? "United States" : "Canada", "user" + r + "@example.com",
+                    r % 3 == 0 ? "" : "Straße, \"quoted\" ✓ " + r});
+        }
+        DataTable table = builder.build();
+
+        DataTable copy = roundTrip(table);
+
+        Assert.assertEquals(copy.headers(), table.headers());
+        Assert.assertEquals(copy.size(), table.size());
+        for (int r = 0; r < table.size(); r++) {
+            for (int c = 0; c < table.width(); c++) {
+                Assert.assertEquals(copy.get(r, c), table.get(r, c), "row " + r + ", col " + c);
+            }
+        }
+    }
+
+    @Test
+    public void snapshotRoundTripOfEmptyTable() throws IOException {
+        DataTable copy = roundTrip(DataTable.builder(List.of("TestID", "URL")).build());
+
+        Assert.assertEquals(copy.headers(), List.of("TestID", "URL"));
+        Assert.assertEquals(copy.size(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void readFromRejectsForeignData() {
+        DataTable.readFrom(ByteBuffer.wrap(new byte[32]));
+    }
+
+    @Test
+    public void shortRowsReadAsEmptyStrings() {
+        DataTable table = DataTable.builder(List.of("A", "B", "C")).addRow(new String[]{"1"}).build();
+
+        Assert.assertEquals(table.get(0, 1), "");
+        Assert.assertEquals(table.get(0, 2), "");
+        Assert.assertEquals(table.get(0, 5), "");
+    }
+
+    @Test
+    public void rowViewMatchesLinkedHashMapForDuplicateHeaders() throws IOException {
+        List<String> headers = List.of("Input ID", "Test Case", "Input ID");
+        String[] values = {"Ip1", "Order", "Ip1-dup"};
+        DataTable table = DataTable.builder(headers).addRow(values).build();
+
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (int c = 0; c < headers.size(); c++) {
+            expected.put(headers.get(c), values[c]);
+        }
+
+        Assert.assertEquals(table.row(0), expected);
+        Assert.assertEquals(List.copyOf(table.row(0).keySet()), List.copyOf(expected.keySet()));
+        Assert.assertEquals(roundTrip(table).row(0), expected);
+    }
+
+    private static DataTable roundTrip(DataTable table) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            table.writeTo(out);
+        }
+        return DataTable.readFrom(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.AutoPOC.utils;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Unit tests for {@link ExcelStreamingReader}: the streaming (SAX) reader must return the same values
+ * as the dom reader of {@link ExcelReaderUtil}, so switching {@code excel.reader.mode} does not change test data.
+ */
+public class ExcelStreamingReaderTest {
+
+    private static final String SHEET = "Synthetic_Data";
+    private static final String[] HEADERS =
+            {"Text", "Whole", "Decimal", "Large", "Formatted", "Date", "Formula", "Bool", "BoolFormula", "Error", "Unstyled"};
+
+    @Test
+    public void bothModesReadTheSameValues() throws IOException {
+        File file = workbook().toFile();
+
+        ParsedSheet dom = ExcelReaderUtil.parseSheet(file, SHEET, 0);
+        ParsedSheet streamed = ExcelStreamingReader.readSheet(file, SHEET, 0);
+
+        Assert.assertEquals(streamed.getHeaders(), dom.getHeaders());
+        Assert.assertEquals(streamed.getRows(), dom.getRows());
+    }
+
+    @Test
+    public void streamingReadsFormulaTextAndUnformattedNumbers() throws IOException {
+        ParsedSheet streamed = ExcelStreamingReader.readSheet(workbook().toFile(), SHEET, 0);
+
+        Assert.assertEquals(streamed.cell(0, 0), "Camera, photo");
+        Assert.assertEquals(streamed.cell(0, 1), "42");
+        Assert.assertEquals(streamed.cell(0, 2), "3.25");
+        Assert.assertEquals(streamed.cell(0, 3), "12345678901234");
+        Assert.assertEquals(streamed.cell(0, 4), "1234.5");
+        Assert.assertEquals(streamed.cell(0, 6), "B2*2");
+        Assert.assertEquals(streamed.cell(0, 7), "true");
+        Assert.assertEquals(streamed.cell(0, 8), "B2>10");
+        Assert.assertEquals(streamed.cell(0, 9), "");
+        Assert.assertEquals(streamed.cell(1, 1), "", "blank cell between values");
+    }
+
+    private static Path workbook() throws IOException {
+        Path file = Files.createTempFile("modes", ".xlsx");
+        file.toFile().deleteOnExit();
+
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            Sheet sheet = wb.createSheet(SHEET);
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < HEADERS.length; c++) {
+                header.createCell(c).setCellValue(HEADERS[c]);
+            }
+
+            CellStyle dateStyle = wb.createCellStyle();
+            dateStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("m/d/yy"));
+            CellStyle amountStyle = wb.createCellStyle();
+            amountStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("#,##0.00"));
+
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("  Camera, photo ");
+            row.createCell(1).setCellValue(42);
+            row.createCell(2).setCellValue(3.25);
+            row.createCell(3).setCellValue(12345678901234d);
+            row.createCell(4).setCellValue(1234.5);
+            row.getCell(4).setCellStyle(amountStyle);
+            row.createCell(5).setCellValue(LocalDate.of(2025, 4, 21));
+            row.getCell(5).setCellStyle(dateStyle);
+            row.createCell(6).setCellFormula("B2*2");
+            row.createCell(7).setCellValue(true);
+            row.createCell(8).setCellFormula("B2>10");
+            row.createCell(9).setCellErrorValue(FormulaError.NA.getCode());
+            row.createCell(10).setCellValue(1.0E-7);
+
+            // Second row leaves a gap and has a formula without a cached result
+            Row sparse = sheet.createRow(2);
+            sparse.createCell(0).setCellValue("Ip2");
+            sparse.createCell(2).setCellValue(0.1);
+            sparse.createCell(5).setCellValue(LocalDate.of(1999, 12, 31));
+            sparse.getCell(5).setCellStyle(dateStyle);
+
+            wb.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            sparse.createCell(6).setCellFormula("C3+1");
+
+            try (OutputStream out = Files.newOutputStream(file)) {
+                wb.write(out);
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,131 @@
+package com.AutoPOC.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for {@link JsonLinesDataSource}: the flat-object parser and append-only writes.
+ */
+public class JsonLinesDataSourceTest {
+
+    @Test
+    public void parsesStringsAndEscapes() throws IOException {
+        Map<String, String> row = single("{\"Address 1\": \"12 \\\"Main\\\" St\\nApt 4\", \"City\":\"Montr\\u00e9al\", \"Path\":\"a\\\\b\\/c\"}");
+
+        Assert.assertEquals(row.get("Address 1"), "12 \"Main\" St\nApt 4");
+        Assert.assertEquals(row.get("City"), "Montréal");
+        Assert.assertEquals(row.get("Path"), "a\\b/c");
+    }
+
+    @Test
+    public void readsLiteralsAsTextAndNullAsEmpty() throws IOException {
+        Map<String, String> row = single("{\"Zip\": 90210, \"Active\": true, \"Note\": null, \"Ratio\": -1.5e3}");
+
+        Assert.assertEquals(row.get("Zip"), "90210");
+        Assert.assertEquals(row.get("Active"), "true");
+        Assert.assertEquals(row.get("Note"), "");
+        Assert.assertEquals(row.get("Ratio"), "-1.5e3");
+    }
+
+    @Test
+    public void trimsKeysAndValuesAndKeepsKeyOrder() throws IOException {
+        Map<String, String> row = single("  { \" Input ID \" : \"  Ip1 \" , \"Country\":\"Canada\" }  ");
+
+        Assert.assertEquals(List.copyOf(row.keySet()), List.of("Input ID", "Country"));
+        Assert.assertEquals(row.get("Input ID"), "Ip1");
+    }
+
+    @Test
+    public void parsesEmptyObjectAndSkipsBlankLines() throws IOException {
+        List<Map<String, String>> rows = rows("{}\n\n   \n{\"a\":\"1\"}\n");
+
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertTrue(rows.get(0).isEmpty());
+        Assert.assertEquals(rows.get(1).get("a"), "1");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsNestedObjects() throws IOException {
+        single("{\"a\": {\"b\": 1}}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsArrays() throws IOException {
+        single("{\"a\": [1, 2]}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsUnterminatedString() throws IOException {
+        single("{\"a\": \"open}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsMissingColon() throws IOException {
+        single("{\"a\" \"b\"}");
+    }
+
+    @Test
+    public void streamColumnsReadsMissingKeysAsEmpty() throws IOException {
+        JsonLinesDataSource source = source("{\"TestID\":\"1\",\"Browser\":\"chrome\"}\n{\"TestID\":\"2\"}\n");
+
+        List<String[]> rows;
+        try (Stream<String[]> stream = source.streamColumns(List.of("TestID", "Browser"))) {
+            rows = stream.toList();
+        }
+
+        Assert.assertEquals(rows.get(0), new String[]{"1", "chrome"});
+        Assert.assertEquals(rows.get(1), new String[]{"2", ""});
+    }
+
+    @Test
+    public void writtenRowsReadBackUnchanged() throws IOException {
+        Path file = Files.createTempDirectory("jsonl").resolve("results.jsonl");
+        JsonLinesDataSource source = new JsonLinesDataSource(file, "Transactional_Data");
+
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(TestDataKeys.RUN_ID, "R1");
+        values.put(TestDataKeys.EXECUTION_STATUS, "Fail: \"timeout\"\n\tat step\\2 \u0001");
+        source.writeRow(3, values);
+        source.writeRow(4, Map.of(TestDataKeys.ORDER_ID, "1001"));
+
+        List<Map<String, String>> rows;
+        try (Stream<Map<String, String>> stream = source.streamRows()) {
+            rows = stream.toList();
+        }
+
+        Assert.assertEquals(rows.size(), 2);
+        Assert.assertEquals(List.copyOf(rows.get(0).keySet()),
+                List.of(TestDataKeys.ROW, TestDataKeys.RUN_ID, TestDataKeys.EXECUTION_STATUS));
+        Assert.assertEquals(rows.get(0).get(TestDataKeys.ROW), "3");
+        // Values are trimmed on read, like xlsx cells
+        Assert.assertEquals(rows.get(0).get(TestDataKeys.EXECUTION_STATUS), "Fail: \"timeout\"\n\tat step\\2");
+        Assert.assertEquals(rows.get(1).get(TestDataKeys.ORDER_ID), "1001");
+    }
+
+    private static Map<String, String> single(String line) throws IOException {
+        List<Map<String, String>> rows = rows(line + "\n");
+        Assert.assertEquals(rows.size(), 1);
+        return rows.get(0);
+    }
+
+    private static List<Map<String, String>> rows(String content) throws IOException {
+        try (Stream<Map<String, String>> stream = source(content).streamRows()) {
+            return stream.toList();
+        }
+    }
+
+    private static JsonLinesDataSource source(String content) throws IOException {
+        Path file = Files.createTempFile("data", ".jsonl");
+        Files.writeString(file, content);
+        file.toFile().deleteOnExit();
+        return new JsonLinesDataSource(file, "Synthetic_Data");
+    }
+}
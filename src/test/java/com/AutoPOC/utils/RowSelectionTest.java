@@ -0,0 +1,89 @@
+package com.AutoPOC.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Unit tests for {@link RowSelection} filter parsing and sharding.
+ */
+public class RowSelectionTest {
+
+    @Test
+    public void parseFiltersKeepsColumnOrderAndTrimsValues() {
+        Map<String, Set<String>> filters = RowSelection.parseFilters(" Browser = chrome | edge ;Application=demowebshop;");
+
+        Assert.assertEquals(List.copyOf(filters.keySet()), List.of("Browser", "Application"));
+        Assert.assertEquals(filters.get("Browser"), Set.of("chrome", "edge"));
+        Assert.assertEquals(filters.get("Application"), Set.of("demowebshop"));
+    }
+
+    @Test
+    public void parseFiltersOfBlankSpecIsEmpty() {
+        Assert.assertTrue(RowSelection.parseFilters("").isEmpty());
+        Assert.assertTrue(RowSelection.parseFilters(" ; ").isEmpty());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void parseFiltersRejectsEntryWithoutValue() {
+        RowSelection.parseFilters("Browser");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void parseFiltersRejectsEntryWithoutColumn() {
+        RowSelection.parseFilters("=chrome");
+    }
+
+    @Test
+    public void acceptsIgnoresCaseAndWhitespace() {
+        RowSelection selection = new RowSelection(RowSelection.parseFilters("Browser=Chrome|edge"), 0, 1);
+
+        Assert.assertTrue(selection.accepts("Browser", " chrome "));
+        Assert.assertTrue(selection.accepts("Browser", "EDGE"));
+        Assert.assertFalse(selection.accepts("Browser", "firefox"));
+        Assert.assertFalse(selection.accepts("Browser", null));
+        Assert.assertTrue(selection.accepts("Application", "anything"), "unfiltered column");
+    }
+
+    @Test
+    public void emptyFilterValueMatchesBlankCells() {
+        RowSelection selection = new RowSelection(RowSelection.parseFilters("State="), 0, 1);
+
+        Assert.assertTrue(selection.accepts("State", ""));
+        Assert.assertFalse(selection.accepts("State", "Ontario"));
+    }
+
+    @Test
+    public void shardsPartitionRowsWithoutOverlap() {
+        int shards = 3;
+        int[] owners = new int[10];
+        for (int shard = 0; shard < shards; shard++) {
+            RowSelection selection = new RowSelection(Map.of(), shard, shards);
+            for (int row = 0; row < owners.length; row++) {
+                if (selection.inShard(row)) owners[row]++;
+            }
+        }
+        Assert.assertTrue(IntStream.of(owners).allMatch(count -> count == 1));
+    }
+
+    @Test
+    public void singleShardTakesEveryRow() {
+        RowSelection all = RowSelection.all();
+
+        Assert.assertTrue(IntStream.range(0, 100).allMatch(all::inShard));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsShardIndexOutOfRange() {
+        new RowSelection(Map.of(), 2, 2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsZeroShards() {
+        new RowSelection(Map.of(), 0, 0);
+    }
+}
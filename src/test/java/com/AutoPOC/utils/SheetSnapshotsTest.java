@@ -0,0 +1,78 @@
+package com.AutoPOC.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link SheetSnapshots}. The workbook parser is replaced by a counting loader,
+ * so any file content works as a "workbook".
+ */
+public class SheetSnapshotsTest {
+
+    @Test
+    public void secondLoadIsServedFromSnapshot() throws IOException {
+        Path workbook = workbook(Files.createTempDirectory("snap"), "first");
+        AtomicInteger parses = new AtomicInteger();
+        ExcelSheetCache.Loader loader = SheetSnapshots.wrap(countingLoader(parses), "test");
+
+        ParsedSheet parsed = loader.load(workbook.toFile(), "Sheet", 0);
+        ParsedSheet mapped = loader.load(workbook.toFile(), "Sheet", 0);
+
+        Assert.assertEquals(parses.get(), 1);
+        Assert.assertEquals(mapped.getHeaders(), parsed.getHeaders());
+        Assert.assertEquals(mapped.getRows(), parsed.getRows());
+    }
+
+    @Test
+    public void changedWorkbookIsParsedAgain() throws IOException {
+        Path workbook = workbook(Files.createTempDirectory("snap"), "before");
+        AtomicInteger parses = new AtomicInteger();
+        ExcelSheetCache.Loader loader = SheetSnapshots.wrap(countingLoader(parses), "test");
+
+        loader.load(workbook.toFile(), "Sheet", 0);
+        Files.writeString(workbook, "after");
+        loader.load(workbook.toFile(), "Sheet", 0);
+
+        Assert.assertEquals(parses.get(), 2);
+    }
+
+    @Test
+    public void sameNamedWorkbooksKeepTheirOwnSnapshots() throws IOException {
+        Path first = workbook(Files.createTempDirectory("snap"), "content A");
+        Path second = workbook(Files.createTempDirectory("snap"), "content B");
+        AtomicInteger parses = new AtomicInteger();
+        ExcelSheetCache.Loader loader = SheetSnapshots.wrap(countingLoader(parses), "test");
+
+        loader.load(first.toFile(), "Sheet", 0);
+        loader.load(second.toFile(), "Sheet", 0);
+        loader.load(first.toFile(), "Sheet", 0);
+        loader.load(second.toFile(), "Sheet", 0);
+
+        Assert.assertEquals(parses.get(), 2);
+    }
+
+    private static Path workbook(Path dir, String content) throws IOException {
+        Path file = dir.resolve("data.xlsx");
+        Files.writeString(file, content);
+        file.toFile().deleteOnExit();
+        dir.toFile().deleteOnExit();
+        return file;
+    }
+
+    private static ExcelSheetCache.Loader countingLoader(AtomicInteger parses) {
+        return (file, sheetName, headerRowIndex) -> {
+            parses.incrementAndGet();
+            DataTable table = DataTable.builder(List.of("Input ID", "Country"))
+                    .addRow(new String[]{"Ip1", "United States"})
+                    .addRow(new String[]{"Ip2", "Canada"})
+                    .build();
+            return new ParsedSheet(sheetName, table);
+        };
+    }
+}